@@ -0,0 +1,69 @@
+package com.web.volunteer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExportConfig {
+
+    @Value("${app.export.parallelism}")
+    private int parallelism;
+
+    @Value("${app.export.jobs.max-concurrent}")
+    private int maxConcurrentJobs;
+
+    @Value("${app.export.jobs.queue-capacity}")
+    private int jobQueueCapacity;
+
+    /**
+     * Bounded pool that loads and serializes export chunks, shared by all exports.
+     * When it is saturated the exporting thread renders the chunk itself, so any
+     * number of concurrent exports slows down instead of failing mid-response.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor exportChunkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        // Each export keeps at most 2 * parallelism chunks in flight
+        executor.setQueueCapacity(parallelism * 8);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("export-chunk-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs background export jobs; submissions beyond the queue capacity are rejected
+     */
+    @Bean
+    public ThreadPoolTaskExecutor exportJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("export-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Boot's default executor (used for MVC async / StreamingResponseBody) backs off
+     * as soon as any Executor bean exists, so it is declared here explicitly.
+     */
+    @Lazy
+    @Primary
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.web.volunteer.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.web.volunteer.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ *
+ * The target is chosen when a physical connection is needed, so this must sit
+ * behind a LazyConnectionDataSourceProxy: by then the transaction's read-only
+ * flag is set. A user's reads stay on the primary for a short window after
+ * they commit a read-write transaction, so they see their own writes despite
+ * replication lag. If the replica cannot hand out a connection, reads fall
+ * back to the primary and the replica is skipped until the retry delay passes.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Cache<Long, Boolean> recentWriters;
+    private final long retryAfterNanos;
+    private final Counter fallbacks;
+
+    private volatile boolean replicaDown;
+    private volatile long replicaRetryAt;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      Duration stickyWindow,
+                                      Duration retryAfter,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+        this.retryAfterNanos = retryAfter.toNanos();
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because the replica failed")
+                .register(meterRegistry);
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+
+        Long userId = currentUserIdOrNull();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                rememberWriteOnCommit(userId);
+            }
+            return Target.PRIMARY;
+        }
+
+        boolean sticky = userId != null && recentWriters.getIfPresent(userId) != null;
+        boolean skipReplica = replicaDown && System.nanoTime() - replicaRetryAt < 0;
+        return sticky || skipReplica ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.PRIMARY) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            // Hikari reports a pool that cannot start as a RuntimeException
+            replicaFailed(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Target.PRIMARY) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException | RuntimeException e) {
+            // Hikari reports a pool that cannot start as a RuntimeException
+            replicaFailed(e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void rememberWriteOnCommit(Long userId) {
+        // Several connections may be routed within one transaction; remembering twice is harmless
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private void replicaFailed(Exception e) {
+        replicaRetryAt = System.nanoTime() + retryAfterNanos;
+        replicaDown = true;
+        fallbacks.increment();
+        logger.warn("Replica unavailable, routing reads to the primary for {} ms: {}",
+                Duration.ofNanos(retryAfterNanos).toMillis(), e.getMessage());
+    }
+
+    private Long currentUserIdOrNull() {
+        try {
+            return SecurityUtils.getCurrentUserId();
+        } catch (Exception e) {
+            // Not authenticated (or a background job), nothing to stick to
+            return null;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.web.volunteer.controller;
 
 import com.web.volunteer.dto.response.ApiResponse;
+import com.web.volunteer.dto.response.ExportJobResponse;
 import com.web.volunteer.dto.response.PageResponse;
 import com.web.volunteer.dto.response.UserResponse;
 import com.web.volunteer.dto.response.UserStats;
+import com.web.volunteer.enums.ExportDataset;
+import com.web.volunteer.enums.ExportFormat;
 import com.web.volunteer.enums.Role;
 import com.web.volunteer.service.AdminService;
+import com.web.volunteer.service.ExportJobService;
 import com.web.volunteer.service.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -20,7 +24,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-import java.io.IOException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -32,22 +39,37 @@ public class AdminController {
 
     private final AdminService adminService;
     private final ExportService exportService;
+    private final ExportJobService exportJobService;
 
     // ========== User Management ==========
 
     @GetMapping("/users")
-    @Operation(summary = "Get all users", description = "Get all users with pagination and filters")
+    @Operation(summary = "Get all users",
+            description = "Get all users with pagination and filters. A search term matches names, " +
+                    "email prefixes and phone prefixes and always pages by cursor: page must be 0, " +
+                    "pass nextCursor as after for the next page")
     public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> getAllUsers(
             @RequestParam(required = false) String role,
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after
     ) {
         Role userRole = null;
         if (role != null && !role.isEmpty()) {
             userRole = Role.valueOf(role.toUpperCase());
         }
 
+        if (search != null && !search.isBlank() && after != null) {
+            PageResponse<UserResponse> response = adminService.searchUsers(userRole, search, after, size);
+            return ResponseEntity.ok(ApiResponse.success(response, "Users retrieved successfully"));
+        }
+
+        if (after != null) {
+            PageResponse<UserResponse> response = adminService.getAllUsers(userRole, after, size);
+            return ResponseEntity.ok(ApiResponse.success(response, "Users retrieved successfully"));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         PageResponse<UserResponse> response = adminService.getAllUsers(userRole, search, pageable);
         return ResponseEntity.ok(ApiResponse.success(response, "Users retrieved successfully"));
@@ -105,58 +127,84 @@ public class AdminController {
     // ========== Export Data ==========
 
     @GetMapping("/export/events/csv")
-    @Operation(summary = "Export events to CSV", description = "Export all events to CSV format")
-    public ResponseEntity<String> exportEventsToCSV() throws IOException {
-        String csv = exportService.exportEventsToCSV();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("text/csv"));
-        headers.setContentDispositionFormData("attachment", "events.csv");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(csv);
+    @Operation(summary = "Export events to CSV",
+            description = "Export all events to CSV format. Pass resumeAfterId to continue an interrupted download")
+    public ResponseEntity<StreamingResponseBody> exportEventsToCSV(
+            @RequestParam(required = false) Long resumeAfterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return attachment(MediaType.parseMediaType("text/csv"), "events.csv", gzip,
+                out -> exportService.exportEvents(ExportFormat.CSV, resumeAfterId, gzip, out));
     }
 
     @GetMapping("/export/events/json")
-    @Operation(summary = "Export events to JSON", description = "Export all events to JSON format")
-    public ResponseEntity<String> exportEventsToJSON() throws IOException {
-        String json = exportService.exportEventsToJSON();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setContentDispositionFormData("attachment", "events.json");
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(json);
+    @Operation(summary = "Export events to JSON",
+            description = "Export all events to JSON format. Pass resumeAfterId to continue an interrupted download")
+    public ResponseEntity<StreamingResponseBody> exportEventsToJSON(
+            @RequestParam(required = false) Long resumeAfterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return attachment(MediaType.APPLICATION_JSON, "events.json", gzip,
+                out -> exportService.exportEvents(ExportFormat.JSON, resumeAfterId, gzip, out));
     }
 
     @GetMapping("/export/users/csv")
-    @Operation(summary = "Export users to CSV", description = "Export all users to CSV format")
-    public ResponseEntity<String> exportUsersToCSV() throws IOException {
-        String csv = exportService.exportUsersToCSV();
+    @Operation(summary = "Export users to CSV",
+            description = "Export all users to CSV format. Pass resumeAfterId to continue an interrupted download")
+    public ResponseEntity<StreamingResponseBody> exportUsersToCSV(
+            @RequestParam(required = false) Long resumeAfterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return attachment(MediaType.parseMediaType("text/csv"), "users.csv", gzip,
+                out -> exportService.exportUsers(ExportFormat.CSV, resumeAfterId, gzip, out));
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("text/csv"));
-        headers.setContentDispositionFormData("attachment", "users.csv");
+    @GetMapping("/export/users/json")
+    @Operation(summary = "Export users to JSON",
+            description = "Export all users to JSON format. Pass resumeAfterId to continue an interrupted download")
+    public ResponseEntity<StreamingResponseBody> exportUsersToJSON(
+            @RequestParam(required = false) Long resumeAfterId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return attachment(MediaType.APPLICATION_JSON, "users.json", gzip,
+                out -> exportService.exportUsers(ExportFormat.JSON, resumeAfterId, gzip, out));
+    }
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(csv);
+    @PostMapping("/export/jobs")
+    @Operation(summary = "Create export job",
+            description = "Run an export in the background; poll the job and download the file when it is completed")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> createExportJob(
+            @RequestParam ExportDataset dataset,
+            @RequestParam ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportJobResponse response = exportJobService.submitJob(dataset, format, gzip);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response, "Export job created successfully"));
     }
 
-    @GetMapping("/export/users/json")
-    @Operation(summary = "Export users to JSON", description = "Export all users to JSON format")
-    public ResponseEntity<String> exportUsersToJSON() throws IOException {
-        String json = exportService.exportUsersToJSON();
+    @GetMapping("/export/jobs/{jobId}")
+    @Operation(summary = "Get export job", description = "Get the status of an export job")
+    public ResponseEntity<ApiResponse<ExportJobResponse>> getExportJob(@PathVariable String jobId) {
+        ExportJobResponse response = exportJobService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response, "Export job retrieved successfully"));
+    }
+
+    @GetMapping("/export/jobs/{jobId}/download")
+    @Operation(summary = "Download export job file", description = "Download the file of a completed export job")
+    public ResponseEntity<StreamingResponseBody> downloadExportJob(@PathVariable String jobId) {
+        Path file = exportJobService.getJobFile(jobId);
+        String filename = exportJobService.getDownloadFilename(jobId);
+        return attachment(MediaType.APPLICATION_OCTET_STREAM, filename, false,
+                out -> Files.copy(file, out));
+    }
 
+    /**
+     * Stream an export as a file download; the body is written after the handler returns
+     */
+    private ResponseEntity<StreamingResponseBody> attachment(MediaType contentType, String filename,
+                                                             boolean gzip, StreamingResponseBody body) {
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setContentDispositionFormData("attachment", "users.json");
+        headers.setContentType(gzip ? MediaType.parseMediaType("application/gzip") : contentType);
+        headers.setContentDispositionFormData("attachment", gzip ? filename + ".gz" : filename);
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(json);
+                .body(body);
     }
 }
@@ -12,11 +12,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/events")
@@ -24,10 +27,18 @@ import java.time.LocalDateTime;
 @Tag(name = "Events", description = "Event management endpoints")
 public class EventController {
 
+    /**
+     * Clients may keep event responses but must revalidate them with their ETag;
+     * they carry per-user flags, so shared caches must not store them
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final EventService eventService;
 
     @GetMapping
-    @Operation(summary = "Get all events", description = "Get all events with optional filters")
+    @Operation(summary = "Get all events",
+            description = "Get all events with optional filters. Pass after (empty for the first page) " +
+                    "to page by cursor; follow nextCursor for the next page")
     public ResponseEntity<ApiResponse<PageResponse<EventResponse>>> getAllEvents(
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) String search,
@@ -35,19 +46,43 @@ public class EventController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest
     ) {
         PageResponse<EventResponse> response = eventService.getAllEvents(
-                categoryId, search, startDate, endDate, status, page, size
+                categoryId, search, startDate, endDate, status, page, size, after, webRequest::checkNotModified
         );
-        return ResponseEntity.ok(ApiResponse.success(response, "Events retrieved successfully"));
+        if (response == null) {
+            // 304 Not Modified, already set by checkNotModified
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(response, "Events retrieved successfully"));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Autocomplete search", description = "Complete the last word of a search query")
+    public ResponseEntity<ApiResponse<List<String>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<String> suggestions = eventService.suggest(q, Math.min(Math.max(limit, 1), 20));
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "Suggestions retrieved successfully"));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get event by ID", description = "Get detailed information about a specific event")
-    public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable Long id) {
-        EventResponse response = eventService.getEventById(id);
-        return ResponseEntity.ok(ApiResponse.success(response, "Event retrieved successfully"));
+    public ResponseEntity<ApiResponse<EventResponse>> getEventById(@PathVariable Long id, WebRequest webRequest) {
+        EventResponse response = eventService.getEventById(id, webRequest::checkNotModified);
+        if (response == null) {
+            // 304 Not Modified, already set by checkNotModified
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success(response, "Event retrieved successfully"));
     }
 
     @PostMapping
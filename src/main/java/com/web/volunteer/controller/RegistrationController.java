@@ -51,8 +51,14 @@ public class RegistrationController {
     @Operation(summary = "Get my registrations", description = "Get all registrations for current user")
     public ResponseEntity<ApiResponse<PageResponse<RegistrationResponse>>> getMyRegistrations(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after
     ) {
+        if (after != null) {
+            PageResponse<RegistrationResponse> response = registrationService.getMyRegistrations(after, size);
+            return ResponseEntity.ok(ApiResponse.success(response, "Registrations retrieved successfully"));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("registeredAt").descending());
         PageResponse<RegistrationResponse> response = registrationService.getMyRegistrations(pageable);
         return ResponseEntity.ok(ApiResponse.success(response, "Registrations retrieved successfully"));
@@ -77,17 +83,21 @@ public class RegistrationController {
             @PathVariable Long eventId,
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("registeredAt").descending());
         EventRegistration.RegistrationStatus regStatus = null;
         if (status != null && !status.isEmpty()) {
             regStatus = EventRegistration.RegistrationStatus.valueOf(status.toUpperCase());
         }
 
-        PageResponse<RegistrationResponse> response = registrationService.getEventRegistrations(
-                eventId, regStatus, pageable
-        );
+        PageResponse<RegistrationResponse> response;
+        if (after != null) {
+            response = registrationService.getEventRegistrations(eventId, regStatus, after, size);
+        } else {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("registeredAt").descending());
+            response = registrationService.getEventRegistrations(eventId, regStatus, pageable);
+        }
         return ResponseEntity.ok(ApiResponse.success(response, "Event registrations retrieved successfully"));
     }
 
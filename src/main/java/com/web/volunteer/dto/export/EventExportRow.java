@@ -0,0 +1,25 @@
+package com.web.volunteer.dto.export;
+
+import com.web.volunteer.entity.Event;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, unmanaged projection of an event used by the streaming exports
+ */
+@Getter
+@AllArgsConstructor
+public class EventExportRow {
+
+    private Long id;
+    private String title;
+    private String description;
+    private String location;
+    private LocalDateTime eventDate;
+    private LocalDateTime registrationDeadline;
+    private Integer maxParticipants;
+    private Event.EventStatus status;
+    private String creatorEmail;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.web.volunteer.dto.export;
+
+import com.web.volunteer.enums.Role;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, unmanaged projection of a user used by the streaming exports
+ */
+@Getter
+@AllArgsConstructor
+public class UserExportRow {
+
+    private Long id;
+    private String fullName;
+    private String email;
+    private String phoneNumber;
+    private Role role;
+    private boolean active;
+    private boolean locked;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.web.volunteer.dto.response;
+
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportJobResponse {
+
+    private String id;
+    private String dataset;
+    private String format;
+    private Boolean gzip;
+    private String status;
+    private Long rowCount;
+    private Long fileSize;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime expiresAt;
+}
@@ -2,6 +2,7 @@ package com.web.volunteer.dto.response;
 
 import lombok.*;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -17,4 +18,6 @@ public class PageResponse<T> {
     private int totalPages;
     private boolean last;
     private boolean first;
+    private String nextCursor;
+    private Map<String, Map<String, Long>> facets;
 }
\ No newline at end of file
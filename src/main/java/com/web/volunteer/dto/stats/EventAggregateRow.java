@@ -0,0 +1,17 @@
+package com.web.volunteer.dto.stats;
+
+import lombok.*;
+
+/**
+ * Conditional event counts computed in a single aggregate query
+ */
+@Getter
+@AllArgsConstructor
+public class EventAggregateRow {
+
+    private Long total;
+    private Long approved;
+    private Long upcoming;
+    private Long pending;
+    private Long completed;
+}
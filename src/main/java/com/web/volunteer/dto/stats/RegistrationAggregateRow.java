@@ -0,0 +1,15 @@
+package com.web.volunteer.dto.stats;
+
+import lombok.*;
+
+/**
+ * Conditional registration counts computed in a single aggregate query
+ */
+@Getter
+@AllArgsConstructor
+public class RegistrationAggregateRow {
+
+    private Long total;
+    private Long completed;
+    private Long pending;
+}
@@ -42,6 +42,11 @@ public class Event {
 
     private Integer maxParticipants;
 
+    // Denormalized count of APPROVED registrations, only written by atomic SQL updates
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private int approvedCount = 0;
+
     // Status
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -92,9 +97,7 @@ public class Event {
         boolean beforeDeadline = registrationDeadline == null ||
                 LocalDateTime.now().isBefore(registrationDeadline);
 
-        boolean slotAvailable = maxParticipants == null ||
-                registrations.stream().filter(r -> r.getStatus() ==
-                        EventRegistration.RegistrationStatus.APPROVED).count() < maxParticipants;
+        boolean slotAvailable = maxParticipants == null || approvedCount < maxParticipants;
 
         return status == EventStatus.APPROVED && beforeDeadline && slotAvailable;
     }
@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "event_registrations")
+@Table(name = "event_registrations",
+        uniqueConstraints = @UniqueConstraint(name = "uq_event_registrations_user_event",
+                columnNames = {"user_id", "event_id"}))
 @Getter
 @Setter
 @Builder
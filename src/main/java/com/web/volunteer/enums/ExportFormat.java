@@ -0,0 +1,6 @@
+package com.web.volunteer.enums;
+
+public enum ExportFormat {
+    CSV,
+    JSON
+}
@@ -0,0 +1,8 @@
+package com.web.volunteer.enums;
+
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
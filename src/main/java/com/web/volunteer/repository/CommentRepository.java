@@ -5,12 +5,29 @@ import com.web.volunteer.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findByPost(Post post, Pageable pageable);
 
     Page<Comment> findByPostOrderByCreatedAtDesc(Post post, Pageable pageable);
+
+    @Query("SELECT c.post.event.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findEventIdById(@Param("commentId") Long commentId);
+
+    /**
+     * (event id, created at) of recent comments on approved events
+     */
+    @Query("SELECT c.post.event.id, c.createdAt FROM Comment c " +
+            "WHERE c.createdAt >= :since " +
+            "AND c.post.event.status = 'APPROVED'")
+    List<Object[]> findRecentActivityTimes(@Param("since") LocalDateTime since);
 }
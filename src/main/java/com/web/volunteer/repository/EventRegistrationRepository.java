@@ -1,15 +1,19 @@
 package com.web.volunteer.repository;
 
+import com.web.volunteer.dto.stats.RegistrationAggregateRow;
 import com.web.volunteer.entity.Event;
 import com.web.volunteer.entity.EventRegistration;
 import com.web.volunteer.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,11 +37,91 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
             "ORDER BY r.event.eventDate DESC")
     Page<EventRegistration> findUserRegistrationHistory(@Param("user") User user, Pageable pageable);
 
+    // ========== Keyset (cursor) pagination, newest first by (registeredAt, id) ==========
+
+    @Query("SELECT r FROM EventRegistration r WHERE r.user = :user " +
+            "ORDER BY r.registeredAt DESC, r.id DESC")
+    List<EventRegistration> findByUserFirstPage(@Param("user") User user, Pageable pageable);
+
+    @Query("SELECT r FROM EventRegistration r WHERE r.user = :user " +
+            "AND (r.registeredAt, r.id) < (:afterTime, :afterId) " +
+            "ORDER BY r.registeredAt DESC, r.id DESC")
+    List<EventRegistration> findByUserAfter(
+            @Param("user") User user,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT r FROM EventRegistration r WHERE r.event = :event " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "ORDER BY r.registeredAt DESC, r.id DESC")
+    List<EventRegistration> findByEventFirstPage(
+            @Param("event") Event event,
+            @Param("status") EventRegistration.RegistrationStatus status,
+            Pageable pageable
+    );
+
+    @Query("SELECT r FROM EventRegistration r WHERE r.event = :event " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (r.registeredAt, r.id) < (:afterTime, :afterId) " +
+            "ORDER BY r.registeredAt DESC, r.id DESC")
+    List<EventRegistration> findByEventAfter(
+            @Param("event") Event event,
+            @Param("status") EventRegistration.RegistrationStatus status,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Registration counts in one pass, filtered by registrant and/or event creator (null means any)
+     */
+    @Query("SELECT new com.web.volunteer.dto.stats.RegistrationAggregateRow(" +
+            "COUNT(r), " +
+            "COALESCE(SUM(CASE WHEN r.completed = true THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN r.status = 'PENDING' THEN 1 ELSE 0 END), 0L)) " +
+            "FROM EventRegistration r " +
+            "WHERE (:userId IS NULL OR r.user.id = :userId) " +
+            "AND (:creatorId IS NULL OR r.event.creator.id = :creatorId)")
+    RegistrationAggregateRow aggregateRegistrationStats(@Param("userId") Long userId,
+                                                        @Param("creatorId") Long creatorId);
+
+    /**
+     * (event id, event date, registered at) of recent registrations to upcoming approved events
+     */
+    @Query("SELECT r.event.id, r.event.eventDate, r.registeredAt FROM EventRegistration r " +
+            "WHERE r.registeredAt >= :since " +
+            "AND r.event.status = 'APPROVED' " +
+            "AND r.event.eventDate >= :now")
+    List<Object[]> findRecentRegistrationTimes(@Param("since") LocalDateTime since,
+                                               @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(r) FROM EventRegistration r WHERE r.event = :event AND r.status = 'APPROVED'")
     long countApprovedRegistrationsByEvent(@Param("event") Event event);
 
+    @Query("SELECT r.event.id FROM EventRegistration r " +
+            "WHERE r.user.id = :userId AND r.event.id IN :eventIds")
+    List<Long> findRegisteredEventIds(@Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
+    @Query("SELECT r.event.id FROM EventRegistration r WHERE r.user.id = :userId")
+    List<Long> findEventIdsByUserId(@Param("userId") Long userId);
+
     @Query("SELECT r FROM EventRegistration r WHERE r.user = :user " +
             "AND r.event.eventDate >= CURRENT_TIMESTAMP " +
             "AND r.status = 'APPROVED'")
     List<EventRegistration> findUpcomingRegistrationsByUser(@Param("user") User user);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EventRegistration r SET r.status = :newStatus, r.updatedAt = :now " +
+            "WHERE r.id = :id AND r.status = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expectedStatus") EventRegistration.RegistrationStatus expectedStatus,
+                              @Param("newStatus") EventRegistration.RegistrationStatus newStatus,
+                              @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM EventRegistration r WHERE r.id = :id AND r.status = :expectedStatus")
+    int deleteIfStatus(@Param("id") Long id,
+                       @Param("expectedStatus") EventRegistration.RegistrationStatus expectedStatus);
 }
@@ -1,11 +1,17 @@
 package com.web.volunteer.repository;
 
+import com.web.volunteer.dto.export.EventExportRow;
+import com.web.volunteer.dto.stats.EventAggregateRow;
 import com.web.volunteer.entity.Event;
 import com.web.volunteer.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -26,35 +32,241 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     @Query("SELECT e FROM Event e WHERE e.status = 'APPROVED' " +
             "AND (:categoryId IS NULL OR e.category.id = :categoryId) " +
-            "AND (:searchTerm IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-            "     OR LOWER(e.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
-            "AND (:startDate IS NULL OR e.eventDate >= :startDate) " +
-            "AND (:endDate IS NULL OR e.eventDate <= :endDate) " +
+            "AND (CAST(:startDate AS LocalDateTime) IS NULL OR e.eventDate >= :startDate) " +
+            "AND (CAST(:endDate AS LocalDateTime) IS NULL OR e.eventDate <= :endDate) " +
             "ORDER BY e.eventDate ASC")
     Page<Event> findEventsWithFilters(
             @Param("categoryId") Long categoryId,
-            @Param("searchTerm") String searchTerm,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable
     );
 
-    @Query("SELECT e FROM Event e " +
-            "LEFT JOIN e.registrations r " +
-            "WHERE e.status = 'APPROVED' " +
-            "AND e.eventDate >= :since " +
-            "GROUP BY e.id " +
-            "ORDER BY COUNT(r) DESC")
-    List<Event> findTrendingEvents(@Param("since") LocalDateTime since, Pageable pageable);
+    // ========== Keyset (cursor) pagination, ordered by (eventDate, id) ==========
+    // Each listing has a first-page query and an after-cursor query; the row
+    // comparison in the latter is an index range on (event_date, id).
 
-    @Query("SELECT e FROM Event e " +
-            "LEFT JOIN e.posts p " +
-            "WHERE e.status = 'APPROVED' " +
-            "AND p.createdAt >= :since " +
-            "GROUP BY e.id " +
-            "ORDER BY COUNT(p) DESC")
-    List<Event> findEventsWithRecentActivity(@Param("since") LocalDateTime since, Pageable pageable);
+    @Query("SELECT e FROM Event e WHERE e.status = :status " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findByStatusFirstPage(@Param("status") Event.EventStatus status, Pageable pageable);
+
+    @Query("SELECT e FROM Event e WHERE e.status = :status " +
+            "AND (e.eventDate, e.id) > (:afterDate, :afterId) " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findByStatusAfter(
+            @Param("status") Event.EventStatus status,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT e FROM Event e WHERE e.status = 'APPROVED' " +
+            "AND e.eventDate >= :startDate " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingApprovedEventsFirstPage(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+
+    @Query("SELECT e FROM Event e WHERE e.status = 'APPROVED' " +
+            "AND e.eventDate >= :startDate " +
+            "AND (e.eventDate, e.id) > (:afterDate, :afterId) " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingApprovedEventsAfter(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT e FROM Event e WHERE e.status = 'APPROVED' " +
+            "AND (:categoryId IS NULL OR e.category.id = :categoryId) " +
+            "AND (CAST(:startDate AS LocalDateTime) IS NULL OR e.eventDate >= :startDate) " +
+            "AND (CAST(:endDate AS LocalDateTime) IS NULL OR e.eventDate <= :endDate) " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventsWithFiltersFirstPage(
+            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    @Query("SELECT e FROM Event e WHERE e.status = 'APPROVED' " +
+            "AND (:categoryId IS NULL OR e.category.id = :categoryId) " +
+            "AND (CAST(:startDate AS LocalDateTime) IS NULL OR e.eventDate >= :startDate) " +
+            "AND (CAST(:endDate AS LocalDateTime) IS NULL OR e.eventDate <= :endDate) " +
+            "AND (e.eventDate, e.id) > (:afterDate, :afterId) " +
+            "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventsWithFiltersAfter(
+            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    @Query("SELECT e FROM Event e WHERE e.status = 'APPROVED' AND e.id > :afterId ORDER BY e.id ASC")
+    List<Event> findApprovedAfterId(@Param("afterId") long afterId, Pageable pageable);
+
+    // ========== Full-text search on the search_vector column (see V2 migration) ==========
+
+    String SEARCH_FILTER = "FROM events e WHERE e.status = 'APPROVED' " +
+            "AND e.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "AND (CAST(:categoryId AS BIGINT) IS NULL OR e.category_id = :categoryId) " +
+            "AND (CAST(:startDate AS TIMESTAMP) IS NULL OR e.event_date >= :startDate) " +
+            "AND (CAST(:endDate AS TIMESTAMP) IS NULL OR e.event_date <= :endDate) ";
+
+    /**
+     * Matching approved events, most relevant first
+     */
+    @Query(value = "SELECT e.* " + SEARCH_FILTER +
+            "ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :tsQuery)) DESC, e.event_date ASC, e.id ASC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FILTER,
+            nativeQuery = true)
+    Page<Event> searchEvents(
+            @Param("tsQuery") String tsQuery,
+            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * First page of matching approved events, ordered by (eventDate, id)
+     */
+    @Query(value = "SELECT e.* " + SEARCH_FILTER +
+            "ORDER BY e.event_date ASC, e.id ASC",
+            nativeQuery = true)
+    List<Event> searchEventsFirstPage(
+            @Param("tsQuery") String tsQuery,
+            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            Pageable pageable
+    );
+
+    /**
+     * Matching approved events after a cursor, ordered by (eventDate, id)
+     */
+    @Query(value = "SELECT e.* " + SEARCH_FILTER +
+            "AND (e.event_date, e.id) > (:afterDate, :afterId) " +
+            "ORDER BY e.event_date ASC, e.id ASC",
+            nativeQuery = true)
+    List<Event> searchEventsAfter(
+            @Param("tsQuery") String tsQuery,
+            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    /**
+     * Facet counts of all matching approved events in one pass, as
+     * (category, week, month, capacity, count) grouping-set rows
+     */
+    @Query(value = "SELECT m.category_key, m.week_key, m.month_key, m.capacity_key, COUNT(*) " +
+            "FROM (SELECT COALESCE(CAST(e.category_id AS VARCHAR), 'none') AS category_key, " +
+            "             to_char(date_trunc('week', e.event_date), 'YYYY-MM-DD') AS week_key, " +
+            "             to_char(e.event_date, 'YYYY-MM') AS month_key, " +
+            "             CASE WHEN e.max_participants IS NOT NULL AND e.approved_count >= e.max_participants " +
+            "                  THEN 'full' ELSE 'open' END AS capacity_key " +
+            "      " + SEARCH_FILTER + ") m " +
+            "GROUP BY GROUPING SETS ((m.category_key), (m.week_key), (m.month_key), (m.capacity_key))",
+            nativeQuery = true)
+    List<Object[]> searchEventFacets(
+            @Param("tsQuery") String tsQuery,
+            @Param("categoryId") Long categoryId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate
+    );
+
+    /**
+     * All dashboard event counts in one pass; a null creator means all events
+     */
+    @Query("SELECT new com.web.volunteer.dto.stats.EventAggregateRow(" +
+            "COUNT(e), " +
+            "COALESCE(SUM(CASE WHEN e.status = 'APPROVED' THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN e.status = 'APPROVED' AND e.eventDate >= :now THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN e.status = 'PENDING' THEN 1 ELSE 0 END), 0L), " +
+            "COALESCE(SUM(CASE WHEN e.status = 'COMPLETED' THEN 1 ELSE 0 END), 0L)) " +
+            "FROM Event e " +
+            "WHERE (:creatorId IS NULL OR e.creator.id = :creatorId)")
+    EventAggregateRow aggregateEventStats(@Param("creatorId") Long creatorId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT e FROM Event e WHERE e.creator.id = :creatorId " +
+            "AND e.status = 'APPROVED' " +
+            "AND e.eventDate >= :now " +
+            "ORDER BY e.eventDate ASC")
+    List<Event> findUpcomingByCreator(@Param("creatorId") Long creatorId,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    @Query("SELECT e.status, COUNT(e) FROM Event e GROUP BY e.status")
+    List<Object[]> countGroupedByStatus();
 
     @Query("SELECT COUNT(e) FROM Event e WHERE e.status = :status")
     long countByStatus(@Param("status") Event.EventStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Upper ID of the next export chunk: the ID found {@code offset} rows after {@code afterId}
+     */
+    @Query(value = "SELECT id FROM events WHERE id > :afterId ORDER BY id OFFSET :offset LIMIT 1",
+            nativeQuery = true)
+    Long findExportChunkUpperBound(@Param("afterId") long afterId, @Param("offset") int offset);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.web.volunteer.dto.export.EventExportRow(" +
+            "e.id, e.title, e.description, e.location, e.eventDate, e.registrationDeadline, " +
+            "e.maxParticipants, e.status, c.email, e.createdAt, e.updatedAt) " +
+            "FROM Event e JOIN e.creator c " +
+            "WHERE e.id > :afterId AND e.id <= :upToId " +
+            "ORDER BY e.id")
+    List<EventExportRow> findExportRowsInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    /**
+     * Take one seat if the event still has capacity. The check and the increment
+     * happen in a single statement, so concurrent approvals cannot overbook.
+     */
+    @Modifying
+    @Query(value = "UPDATE events SET approved_count = approved_count + 1 " +
+            "WHERE id = :eventId AND (max_participants IS NULL OR approved_count < max_participants)",
+            nativeQuery = true)
+    int reserveSeat(@Param("eventId") Long eventId);
+
+    @Modifying
+    @Query(value = "UPDATE events SET approved_count = approved_count - 1 " +
+            "WHERE id = :eventId AND approved_count > 0",
+            nativeQuery = true)
+    int decrementApprovedCount(@Param("eventId") Long eventId);
+
+    /**
+     * Events whose approved_count differs from their APPROVED registrations.
+     * A snapshot only: repair each with {@link #lockForCountRepair} and
+     * {@link #repairApprovedCount}.
+     */
+    @Query(value = "SELECT e.id FROM events e " +
+            "LEFT JOIN event_registrations r ON r.event_id = e.id AND r.status = 'APPROVED' " +
+            "GROUP BY e.id HAVING e.approved_count <> COUNT(r.id)",
+            nativeQuery = true)
+    List<Long> findEventIdsWithApprovedCountDrift();
+
+    /**
+     * Lock the event row, waiting for any approval or withdrawal that has
+     * already changed its count to commit
+     */
+    @Query(value = "SELECT id FROM events WHERE id = :eventId FOR UPDATE", nativeQuery = true)
+    Long lockForCountRepair(@Param("eventId") Long eventId);
+
+    /**
+     * Set approved_count to the APPROVED registrations. Run it under
+     * {@link #lockForCountRepair}, as a separate statement, so the count is
+     * taken after the lock and not from a snapshot older than the row.
+     */
+    @Modifying
+    @Query(value = "UPDATE events e SET approved_count = c.cnt " +
+            "FROM (SELECT COUNT(*) AS cnt FROM event_registrations " +
+            "      WHERE event_id = :eventId AND status = 'APPROVED') c " +
+            "WHERE e.id = :eventId AND e.approved_count <> c.cnt",
+            nativeQuery = true)
+    int repairApprovedCount(@Param("eventId") Long eventId);
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -31,4 +32,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT COUNT(p) FROM Post p WHERE p.event = :event AND p.createdAt >= :since")
     long countRecentPostsByEvent(@Param("event") Event event, @Param("since") LocalDateTime since);
+
+    /**
+     * (event id, created at) of recent posts on approved events
+     */
+    @Query("SELECT p.event.id, p.createdAt FROM Post p " +
+            "WHERE p.createdAt >= :since " +
+            "AND p.event.status = 'APPROVED'")
+    List<Object[]> findRecentActivityTimes(@Param("since") LocalDateTime since);
 }
@@ -1,13 +1,20 @@
 package com.web.volunteer.repository;
 
+import com.web.volunteer.dto.export.UserExportRow;
 import com.web.volunteer.entity.User;
 import com.web.volunteer.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,4 +31,96 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
     long countByRole(Role role);
+
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
+
+    // ========== Keyset (cursor) pagination, newest first by (createdAt, id) ==========
+
+    @Query("SELECT u FROM User u WHERE (:role IS NULL OR u.role = :role) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findAllFirstPage(@Param("role") Role role, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE (:role IS NULL OR u.role = :role) " +
+            "AND (u.createdAt, u.id) < (:afterTime, :afterId) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findAllAfter(
+            @Param("role") Role role,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // ========== Admin search (see V3 migration for the indexes) ==========
+
+    String SEARCH_ROLE = "AND (CAST(:role AS VARCHAR) IS NULL OR role = :role) ";
+
+    String SEARCH_KEYSET = SEARCH_ROLE + "AND (created_at, id) < (:afterTime, :afterId) ";
+
+    String SEARCH_BY_NAME = "(SELECT id FROM users WHERE lower(full_name) LIKE :namePattern ";
+
+    String SEARCH_BY_EMAIL = "(SELECT id FROM users WHERE lower(email) LIKE :emailPrefix ";
+
+    String SEARCH_BY_PHONE = "(SELECT id FROM users WHERE CAST(:phonePrefix AS VARCHAR) IS NOT NULL " +
+            "AND phone_number LIKE :phonePrefix ";
+
+    // Each branch keeps its newest matches, so the capped union still holds the newest overall
+    String SEARCH_BRANCH_END = "ORDER BY created_at DESC, id DESC LIMIT :scanCap)";
+
+    String SEARCH_ORDER = "ORDER BY u.created_at DESC, u.id DESC LIMIT :limit";
+
+    /**
+     * First page of users matching by name, email prefix or phone prefix,
+     * newest first. Each branch contributes at most its {@code scanCap} newest
+     * matches; {@code scanCap} must not be smaller than {@code limit}.
+     */
+    @Query(value = "SELECT u.* FROM users u WHERE u.id IN (" +
+            SEARCH_BY_NAME + SEARCH_ROLE + SEARCH_BRANCH_END + " UNION " +
+            SEARCH_BY_EMAIL + SEARCH_ROLE + SEARCH_BRANCH_END + " UNION " +
+            SEARCH_BY_PHONE + SEARCH_ROLE + SEARCH_BRANCH_END + ") " +
+            SEARCH_ORDER,
+            nativeQuery = true)
+    List<User> searchUsersFirstPage(
+            @Param("namePattern") String namePattern,
+            @Param("emailPrefix") String emailPrefix,
+            @Param("phonePrefix") String phonePrefix,
+            @Param("role") String role,
+            @Param("scanCap") int scanCap,
+            @Param("limit") int limit
+    );
+
+    /**
+     * As {@link #searchUsersFirstPage}, for the users after a cursor
+     */
+    @Query(value = "SELECT u.* FROM users u WHERE u.id IN (" +
+            SEARCH_BY_NAME + SEARCH_KEYSET + SEARCH_BRANCH_END + " UNION " +
+            SEARCH_BY_EMAIL + SEARCH_KEYSET + SEARCH_BRANCH_END + " UNION " +
+            SEARCH_BY_PHONE + SEARCH_KEYSET + SEARCH_BRANCH_END + ") " +
+            SEARCH_ORDER,
+            nativeQuery = true)
+    List<User> searchUsersAfter(
+            @Param("namePattern") String namePattern,
+            @Param("emailPrefix") String emailPrefix,
+            @Param("phonePrefix") String phonePrefix,
+            @Param("role") String role,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("scanCap") int scanCap,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Upper ID of the next export chunk: the ID found {@code offset} rows after {@code afterId}
+     */
+    @Query(value = "SELECT id FROM users WHERE id > :afterId ORDER BY id OFFSET :offset LIMIT 1",
+            nativeQuery = true)
+    Long findExportChunkUpperBound(@Param("afterId") long afterId, @Param("offset") int offset);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.web.volunteer.dto.export.UserExportRow(" +
+            "u.id, u.fullName, u.email, u.phoneNumber, u.role, u.active, u.locked, u.createdAt, u.updatedAt) " +
+            "FROM User u " +
+            "WHERE u.id > :afterId AND u.id <= :upToId " +
+            "ORDER BY u.id")
+    List<UserExportRow> findExportRowsInRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
 }
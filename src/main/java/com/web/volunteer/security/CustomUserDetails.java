@@ -35,6 +35,24 @@ public class CustomUserDetails implements UserDetails {
         );
     }
 
+    /**
+     * Build from verified access token claims, without touching the database.
+     * Lock/deactivate state is enforced separately by TokenRevocationRegistry.
+     */
+    public static CustomUserDetails fromClaims(Long id, String email, String role) {
+        GrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role);
+
+        return new CustomUserDetails(
+                id,
+                email,
+                null,
+                role,
+                true,
+                false,
+                Collections.singletonList(authority)
+        );
+    }
+
     @Override
     public String getUsername() {
         return email;
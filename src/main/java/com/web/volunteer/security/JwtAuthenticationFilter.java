@@ -1,5 +1,6 @@
 package com.web.volunteer.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,28 +24,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Autowired
-    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    @Value("${jwt.stateless-auth}")
+    private boolean statelessAuth;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Claims claims = StringUtils.hasText(jwt) ? verifiedTokenCache.verify(jwt) : null;
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserById(userId);
+            if (claims != null) {
+                Long userId = Long.parseLong(claims.getSubject());
+                UserDetails userDetails = loadUserDetails(userId, claims);
 
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("Set authentication for user: {}", userId);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    logger.debug("Set authentication for user: {}", userId);
+                } else {
+                    logger.debug("Rejected revoked token for user: {}", userId);
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -52,6 +65,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Build the principal from token claims (stateless mode) or from the database.
+     * Returns null when the user's tokens have been revoked.
+     */
+    private UserDetails loadUserDetails(Long userId, Claims claims) {
+        if (!statelessAuth) {
+            return customUserDetailsService.loadUserById(userId);
+        }
+
+        if (revocationRegistry.isRevoked(userId, claims.getIssuedAt())) {
+            return null;
+        }
+
+        return CustomUserDetails.fromClaims(
+                userId,
+                claims.get("email", String.class),
+                claims.get("role", String.class)
+        );
+    }
+
     /**
      * Extract JWT token from Authorization header
      */
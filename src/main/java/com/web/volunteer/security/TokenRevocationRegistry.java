@@ -0,0 +1,59 @@
+package com.web.volunteer.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of users whose access tokens must no longer be accepted
+ * (locked or deactivated accounts). Used by the stateless authentication
+ * path, which does not load the user on every request.
+ *
+ * An entry only needs to live as long as the longest access token issued
+ * before it: login and refresh refuse locked/inactive users, so no newer
+ * token can exist for them.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    private final Map<Long, Instant> revokedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Reject every token issued to the user until now
+     */
+    public void revoke(Long userId) {
+        revokedAt.put(userId, Instant.now());
+    }
+
+    /**
+     * Accept the user's tokens again
+     */
+    public void restore(Long userId) {
+        revokedAt.remove(userId);
+    }
+
+    /**
+     * Check whether a token issued at the given time has been revoked
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Instant revoked = revokedAt.get(userId);
+        if (revoked == null) {
+            return false;
+        }
+        // "iat" has second precision, so a token from the same second counts as revoked
+        return issuedAt == null || !issuedAt.toInstant().isAfter(revoked);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.access-token-expiration}")
+    public void pruneExpiredEntries() {
+        Instant cutoff = Instant.now().minusMillis(accessTokenExpiration);
+        revokedAt.values().removeIf(revoked -> revoked.isBefore(cutoff));
+    }
+}
@@ -0,0 +1,102 @@
+package com.web.volunteer.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified access tokens, keyed by the SHA-256
+ * digest of the token. Clients resend the same token for its whole
+ * lifetime, so a hit skips HMAC verification and claim parsing.
+ * An entry never outlives the token's own "exp".
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.token-cache.enabled}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size}") long maxSize,
+                              @Value("${jwt.token-cache.ttl}") long ttlMillis) {
+        this.tokenProvider = tokenProvider;
+
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(ttlMillis)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * Return the verified claims of a token, or null if it is not valid
+     */
+    public Claims verify(String token) {
+        if (cache == null) {
+            return tokenProvider.parseClaims(token);
+        }
+
+        String key = digest(token);
+        Claims claims = cache.getIfPresent(key);
+        if (claims == null) {
+            claims = tokenProvider.parseClaims(token);
+            if (claims != null) {
+                cache.put(key, claims);
+            }
+        }
+        return claims;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Expire at the configured TTL or at the token's "exp", whichever comes first
+     */
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return ttlNanos;
+            }
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.repository.CommentRepository;
+import com.web.volunteer.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory "recently active" ranking by community activity.
+ *
+ * Every post, comment and like adds a weight to its event's score, and the
+ * score halves every half-life. Scores are kept as log2 values relative to a
+ * fixed epoch, so decay never has to be applied to stored entries: all
+ * events decay at the same rate and their order only changes when new
+ * activity arrives. The ranked index is therefore updated once per write
+ * and read without any aggregation.
+ */
+@Component
+public class ActivityTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityTracker.class);
+
+    private static final double POST_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double LIKE_WEIGHT = 1.0;
+
+    // Scores below this (about one like, seven half-lives ago) are dropped
+    private static final double MIN_SCORE = 0.01;
+    private static final int SEED_HALF_LIVES = 7;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final long epochMillis = System.currentTimeMillis();
+    private final double halfLifeMillis;
+
+    private final Map<Long, Double> logScores = new ConcurrentHashMap<>();
+    private final NavigableSet<Ranked> ranking = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(Ranked::logScore).reversed().thenComparing(Ranked::eventId));
+
+    public ActivityTracker(PostRepository postRepository,
+                           CommentRepository commentRepository,
+                           @Value("${app.activity.half-life-hours}") double halfLifeHours) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.halfLifeMillis = halfLifeHours * 3_600_000;
+    }
+
+    /**
+     * IDs of the most active events, best first
+     */
+    public List<Long> topEventIds(int limit) {
+        List<Long> ids = new ArrayList<>(Math.max(limit, 0));
+        Iterator<Ranked> iterator = ranking.iterator();
+        while (ids.size() < limit && iterator.hasNext()) {
+            ids.add(iterator.next().eventId());
+        }
+        return ids;
+    }
+
+    // ========== Activity ==========
+
+    public void postCreated(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> record(eventId, POST_WEIGHT, LocalDateTime.now()));
+    }
+
+    public void commentCreated(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> record(eventId, COMMENT_WEIGHT, LocalDateTime.now()));
+    }
+
+    /**
+     * A post or comment on the event was liked
+     */
+    public void liked(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> record(eventId, LIKE_WEIGHT, LocalDateTime.now()));
+    }
+
+    /**
+     * Drop an event that can no longer be shown (deleted or rejected)
+     */
+    public void eventRemoved(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> logScores.computeIfPresent(eventId, (id, logScore) -> {
+            ranking.remove(new Ranked(logScore, id));
+            return null;
+        }));
+    }
+
+    // ========== Maintenance ==========
+
+    /**
+     * Seed scores from recent posts and comments (likes carry no timestamp)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes((long) (SEED_HALF_LIVES * halfLifeMillis / 60_000));
+
+        List<Object[]> posts = postRepository.findRecentActivityTimes(since);
+        List<Object[]> comments = commentRepository.findRecentActivityTimes(since);
+        posts.forEach(row -> record((Long) row[0], POST_WEIGHT, (LocalDateTime) row[1]));
+        comments.forEach(row -> record((Long) row[0], COMMENT_WEIGHT, (LocalDateTime) row[1]));
+
+        logger.info("Activity tracker seeded with {} posts and {} comments across {} events",
+                posts.size(), comments.size(), logScores.size());
+    }
+
+    /**
+     * Drop events whose decayed score has fallen below the floor
+     */
+    @Scheduled(fixedDelayString = "${app.activity.prune-interval}", initialDelayString = "${app.activity.prune-interval}")
+    public void prune() {
+        double floor = log2(MIN_SCORE) + halfLivesSinceEpoch(LocalDateTime.now());
+
+        Iterator<Ranked> weakestFirst = ranking.descendingIterator();
+        while (weakestFirst.hasNext()) {
+            Ranked entry = weakestFirst.next();
+            if (entry.logScore() >= floor) {
+                break;
+            }
+            logScores.remove(entry.eventId(), entry.logScore());
+            weakestFirst.remove();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void record(Long eventId, double weight, LocalDateTime at) {
+        double added = log2(weight) + halfLivesSinceEpoch(at);
+
+        logScores.compute(eventId, (id, current) -> {
+            double updated = current == null ? added : logSum(current, added);
+            if (current != null) {
+                ranking.remove(new Ranked(current, id));
+            }
+            ranking.add(new Ranked(updated, id));
+            return updated;
+        });
+    }
+
+    private double halfLivesSinceEpoch(LocalDateTime time) {
+        long millis = time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return (millis - epochMillis) / halfLifeMillis;
+    }
+
+    /**
+     * log2(2^a + 2^b) without overflowing for large exponents
+     */
+    private static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        return max + log2(1 + Math.pow(2, Math.min(a, b) - max));
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    private record Ranked(double logScore, Long eventId) {
+    }
+}
@@ -9,13 +9,18 @@ import com.web.volunteer.exception.BadRequestException;
 import com.web.volunteer.exception.ResourceNotFoundException;
 import com.web.volunteer.repository.EventRepository;
 import com.web.volunteer.repository.UserRepository;
+import com.web.volunteer.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +28,22 @@ public class AdminService {
 
     private static final Logger logger = LoggerFactory.getLogger(AdminService.class);
 
+    private static final int MIN_SEARCH_LENGTH = 2;
+
+    // Digits with the usual separators, e.g. "+84 90-123" or "(090) 123"
+    private static final Pattern PHONE_TERM = Pattern.compile("[0-9+()\\s-]+");
+    private static final int MIN_PHONE_DIGITS = 3;
+
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final DashboardCounters dashboardCounters;
+
+    @Value("${app.user-search.scan-cap}")
+    private int searchScanCap;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
 
     /**
      * Get all users with pagination
@@ -33,14 +52,19 @@ public class AdminService {
     public PageResponse<UserResponse> getAllUsers(Role role, String search, Pageable pageable) {
         logger.info("Fetching all users - role: {}, search: {}", role, search);
 
+        if (search != null && !search.isBlank()) {
+            // Search pages by cursor only; a page number would silently return the first page again
+            if (pageable.getPageNumber() > 0) {
+                throw new BadRequestException("Search results are paged by cursor: " +
+                        "pass nextCursor as 'after' instead of 'page'");
+            }
+            return searchUsers(role, search, null, pageable.getPageSize());
+        }
+
         Page<User> userPage;
 
         if (role != null) {
             userPage = userRepository.findByRole(role, pageable);
-        } else if (search != null && !search.isEmpty()) {
-            // This would require adding a search method to UserRepository
-            // For now, get all users
-            userPage = userRepository.findAll(pageable);
         } else {
             userPage = userRepository.findAll(pageable);
         }
@@ -58,6 +82,57 @@ public class AdminService {
                 .build();
     }
 
+    /**
+     * Get users after a cursor, newest first, without a count query
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<UserResponse> getAllUsers(Role role, String after, int size) {
+        logger.info("Fetching users by cursor - role: {}", role);
+
+        int pageSize = PageCursor.pageSize(size, maxPageSize);
+        PageCursor cursor = PageCursor.decode(after);
+        List<User> users = cursor == null
+                ? userRepository.findAllFirstPage(role, PageCursor.limit(pageSize))
+                : userRepository.findAllAfter(role, cursor.sortValue(), cursor.id(), PageCursor.limit(pageSize));
+
+        return PageCursor.toPageResponse(users, pageSize, cursor,
+                user -> new PageCursor(user.getCreatedAt(), user.getId()),
+                rows -> rows.stream().map(this::mapToUserResponse).toList());
+    }
+
+    /**
+     * Search users by name (substring), email prefix or phone prefix, newest first, by cursor
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<UserResponse> searchUsers(Role role, String search, String after, int size) {
+        logger.info("Searching users - role: {}, search: {}", role, search);
+
+        String term = search.trim().toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_SEARCH_LENGTH) {
+            throw new BadRequestException("Search term must have at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+
+        String escaped = escapeLike(term);
+        // Trigrams need three characters; shorter terms match name prefixes only
+        String namePattern = term.length() >= 3 ? "%" + escaped + "%" : escaped + "%";
+        String phonePrefix = phonePrefixOrNull(term);
+
+        int pageSize = PageCursor.pageSize(size, maxPageSize);
+        String roleName = role != null ? role.name() : null;
+        int scanCap = Math.max(searchScanCap, pageSize + 1);
+        PageCursor cursor = PageCursor.decode(after);
+        List<User> users = cursor == null
+                ? userRepository.searchUsersFirstPage(
+                        namePattern, escaped + "%", phonePrefix, roleName, scanCap, pageSize + 1)
+                : userRepository.searchUsersAfter(
+                        namePattern, escaped + "%", phonePrefix, roleName,
+                        cursor.sortValue(), cursor.id(), scanCap, pageSize + 1);
+
+        return PageCursor.toPageResponse(users, pageSize, cursor,
+                user -> new PageCursor(user.getCreatedAt(), user.getId()),
+                rows -> rows.stream().map(this::mapToUserResponse).toList());
+    }
+
     /**
      * Get user by ID
      */
@@ -91,6 +166,7 @@ public class AdminService {
 
         user.setLocked(true);
         user = userRepository.save(user);
+        revocationRegistry.revoke(userId);
 
         logger.info("User account {} locked successfully", userId);
         return mapToUserResponse(user);
@@ -112,6 +188,9 @@ public class AdminService {
 
         user.setLocked(false);
         user = userRepository.save(user);
+        if (user.isActive()) {
+            revocationRegistry.restore(userId);
+        }
 
         logger.info("User account {} unlocked successfully", userId);
         return mapToUserResponse(user);
@@ -133,6 +212,7 @@ public class AdminService {
 
         user.setActive(false);
         user = userRepository.save(user);
+        revocationRegistry.revoke(userId);
 
         logger.info("User account {} deactivated successfully", userId);
         return mapToUserResponse(user);
@@ -150,6 +230,9 @@ public class AdminService {
 
         user.setActive(true);
         user = userRepository.save(user);
+        if (!user.isLocked()) {
+            revocationRegistry.restore(userId);
+        }
 
         logger.info("User account {} activated successfully", userId);
         return mapToUserResponse(user);
@@ -179,6 +262,7 @@ public class AdminService {
         user.setActive(false);
         user.setLocked(true);
         userRepository.save(user);
+        revocationRegistry.revoke(userId);
 
         logger.info("User account {} deleted (deactivated) successfully", userId);
     }
@@ -190,21 +274,29 @@ public class AdminService {
     public UserStats getUserStats() {
         logger.info("Fetching user statistics");
 
-        long totalUsers = userRepository.count();
-        long volunteers = userRepository.countByRole(Role.VOLUNTEER);
-        long eventManagers = userRepository.countByRole(Role.ORGANIZER);
-        long admins = userRepository.countByRole(Role.ADMIN);
-
-        return UserStats.builder()
-                .totalUsers(totalUsers)
-                .volunteers(volunteers)
-                .eventManagers(eventManagers)
-                .admins(admins)
-                .build();
+        return dashboardCounters.userStats();
     }
 
     // ========== Private Helper Methods ==========
 
+    /**
+     * LIKE prefix for the phone branch, only for terms that look like a phone
+     * number: "user1" or "john2024@x.com" must not match by phone
+     */
+    private String phonePrefixOrNull(String term) {
+        if (!PHONE_TERM.matcher(term).matches()) {
+            return null;
+        }
+        String digits = term.replaceAll("[^0-9+]", "");
+        return digits.chars().filter(Character::isDigit).count() >= MIN_PHONE_DIGITS
+                ? digits + "%"
+                : null;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
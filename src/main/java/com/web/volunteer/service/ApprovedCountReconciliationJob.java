@@ -0,0 +1,62 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+
+/**
+ * Repairs drift between events.approved_count and the actual number of
+ * APPROVED registrations. Runs once at startup and then periodically.
+ *
+ * Each drifted event is repaired in its own short transaction: the event row
+ * is locked first and only then recounted. An approval or withdrawal in
+ * flight has already locked the row, so the recount waits for it and sees
+ * its registration; one that starts later adjusts the repaired count. A
+ * single UPDATE over all events would count from its starting snapshot and
+ * overwrite concurrent changes with a stale count.
+ */
+@Component
+public class ApprovedCountReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovedCountReconciliationJob.class);
+
+    private final EventRepository eventRepository;
+    private final EventCache eventCache;
+    private final TransactionTemplate transaction;
+
+    public ApprovedCountReconciliationJob(EventRepository eventRepository,
+                                          EventCache eventCache,
+                                          PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.eventCache = eventCache;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.registration.approved-count-reconcile-interval}")
+    public void reconcileApprovedCounts() {
+        List<Long> drifted = eventRepository.findEventIdsWithApprovedCountDrift();
+
+        int repaired = 0;
+        for (Long eventId : drifted) {
+            Integer updated = transaction.execute(status -> {
+                eventRepository.lockForCountRepair(eventId);
+                return eventRepository.repairApprovedCount(eventId);
+            });
+            if (updated != null && updated > 0) {
+                eventCache.evictEvent(eventId);
+                repaired++;
+            }
+        }
+
+        if (repaired > 0) {
+            logger.warn("Repaired approved participant count for {} events", repaired);
+        } else {
+            logger.debug("Approved participant counts are consistent");
+        }
+    }
+}
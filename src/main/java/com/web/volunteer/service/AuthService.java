@@ -37,6 +37,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final DashboardCounters dashboardCounters;
 
     /**
      * Register a new user
@@ -62,6 +63,7 @@ public class AuthService {
                 .build();
 
         user = userRepository.save(user);
+        dashboardCounters.userCreated(user.getRole());
         logger.info("User registered successfully with ID: {}", user.getId());
 
         // Generate tokens
@@ -167,6 +169,15 @@ public class AuthService {
 
         User user = refreshToken.getUser();
 
+        // Locked or inactive users must not get fresh access tokens
+        if (user.isLocked()) {
+            throw new UnauthorizedException("Account is locked. Please contact administrator.");
+        }
+
+        if (!user.isActive()) {
+            throw new UnauthorizedException("Account is inactive. Please contact administrator.");
+        }
+
         // Generate new access token
         String accessToken = tokenProvider.generateAccessTokenFromUserId(
                 user.getId(),
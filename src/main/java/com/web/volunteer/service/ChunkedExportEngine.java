@@ -0,0 +1,233 @@
+package com.web.volunteer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.web.volunteer.enums.ExportFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Parallel export pipeline. The calling thread walks the table in keyset
+ * ID ranges; each range is loaded and serialized on the bounded export
+ * executor, and the finished chunks are written to the output strictly
+ * in ID order. Each export holds at most 2 * parallelism chunks in memory;
+ * when the shared executor is saturated the calling thread renders the
+ * chunk itself rather than having it rejected.
+ *
+ * Every query runs under a shared semaphore sized to a configured share of
+ * the connection pool, so exports (however many run at once) can never
+ * take the connections the API needs.
+ */
+@Component
+public class ChunkedExportEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedExportEngine.class);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore connectionPermits;
+
+    @Value("${app.export.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.export.parallelism}")
+    private int parallelism;
+
+    public ChunkedExportEngine(@Qualifier("exportChunkExecutor") ThreadPoolTaskExecutor exportChunkExecutor,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${spring.datasource.hikari.maximum-pool-size}") int maximumPoolSize,
+                               @Value("${app.export.max-pool-share}") double maxPoolShare) {
+        this.executor = exportChunkExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        this.meterRegistry = meterRegistry;
+        this.connectionPermits = new Semaphore(Math.max(1, (int) Math.floor(maximumPoolSize * maxPoolShare)), true);
+    }
+
+    /**
+     * Export every row with an ID greater than {@code resumeAfterId} (or all rows when null).
+     * A resumed export continues the part already downloaded: it has no CSV header,
+     * and a JSON one starts with the separator after the last row instead of "[".
+     */
+    public <T> long export(ExportSource<T> source, ExportFormat format, Long resumeAfterId,
+                           boolean gzip, OutputStream out) throws IOException {
+        long startNanos = System.nanoTime();
+        logger.info("Exporting {} as {} (resumeAfterId: {}, gzip: {})", source.name(), format, resumeAfterId, gzip);
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Deque<CompletableFuture<Chunk>> inFlight = new ArrayDeque<>();
+        long rows = 0;
+        boolean firstChunk = resumeAfterId == null;
+
+        try {
+            writeOpening(source, format, resumeAfterId, target);
+
+            long afterId = resumeAfterId != null ? resumeAfterId : 0L;
+            boolean moreRanges = true;
+
+            while (moreRanges || !inFlight.isEmpty()) {
+                // Keep the window full before blocking on the oldest chunk
+                while (moreRanges && inFlight.size() < parallelism * 2) {
+                    long fromId = afterId;
+                    Long upperBound = withConnectionPermit(() -> readOnlyTransaction.execute(status ->
+                            source.boundaryQuery().findUpperBound(fromId, chunkSize - 1)));
+                    long toId = upperBound != null ? upperBound : Long.MAX_VALUE;
+
+                    inFlight.add(CompletableFuture.supplyAsync(
+                            () -> renderChunk(source, format, fromId, toId), executor));
+
+                    moreRanges = upperBound != null;
+                    afterId = toId;
+                }
+
+                Chunk chunk = inFlight.poll().join();
+                if (chunk.rows() > 0) {
+                    if (format == ExportFormat.JSON && !firstChunk) {
+                        target.write(",\n".getBytes(StandardCharsets.UTF_8));
+                    }
+                    target.write(chunk.bytes());
+                    target.flush();
+                    rows += chunk.rows();
+                    firstChunk = false;
+                }
+            }
+
+            writeClosing(format, target);
+            if (gzip) {
+                ((GZIPOutputStream) target).finish();
+            }
+            target.flush();
+        } catch (CompletionException ex) {
+            inFlight.forEach(future -> future.cancel(true));
+            Throwable cause = ex.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            inFlight.forEach(future -> future.cancel(true));
+            throw ex;
+        }
+
+        recordThroughput(source, format, rows, System.nanoTime() - startNanos);
+        return rows;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private <T> Chunk renderChunk(ExportSource<T> source, ExportFormat format, long afterId, long upToId) {
+        List<T> rows = withConnectionPermit(() ->
+                readOnlyTransaction.execute(status -> source.rangeQuery().findRange(afterId, upToId)));
+        if (rows == null || rows.isEmpty()) {
+            return new Chunk(new byte[0], 0);
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(rows.size() * 256);
+            if (format == ExportFormat.CSV) {
+                Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+                CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
+                for (T row : rows) {
+                    csvPrinter.printRecord(source.csvRecord().apply(row));
+                }
+                csvPrinter.flush();
+            } else {
+                for (int i = 0; i < rows.size(); i++) {
+                    if (i > 0) {
+                        buffer.write(",\n".getBytes(StandardCharsets.UTF_8));
+                    }
+                    buffer.write(jsonWriter.writeValueAsBytes(source.jsonValue().apply(rows.get(i))));
+                }
+            }
+            return new Chunk(buffer.toByteArray(), rows.size());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private <R> R withConnectionPermit(Supplier<R> query) {
+        try {
+            connectionPermits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Export was interrupted", ex);
+        }
+        try {
+            return query.get();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private void writeOpening(ExportSource<?> source, ExportFormat format, Long resumeAfterId,
+                              OutputStream out) throws IOException {
+        if (resumeAfterId != null) {
+            // A resumed export is appended to the part already downloaded
+            return;
+        }
+        if (format == ExportFormat.JSON) {
+            out.write("[\n".getBytes(StandardCharsets.UTF_8));
+        } else {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT);
+            csvPrinter.printRecord((Object[]) source.csvHeader());
+            csvPrinter.flush();
+        }
+    }
+
+    private void writeClosing(ExportFormat format, OutputStream out) throws IOException {
+        if (format == ExportFormat.JSON) {
+            out.write("\n]".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void recordThroughput(ExportSource<?> source, ExportFormat format, long rows, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+        double rowsPerSecond = rows / seconds;
+
+        meterRegistry.counter("export.rows", "dataset", source.name(), "format", format.name())
+                .increment(rows);
+        DistributionSummary.builder("export.throughput")
+                .baseUnit("rows/s")
+                .tag("dataset", source.name())
+                .tag("format", format.name())
+                .register(meterRegistry)
+                .record(rowsPerSecond);
+
+        logger.info("Exported {} {} rows as {} in {} s ({} rows/s)",
+                rows, source.name(), format, String.format("%.2f", seconds), Math.round(rowsPerSecond));
+    }
+
+    private record Chunk(byte[] bytes, int rows) {
+    }
+}
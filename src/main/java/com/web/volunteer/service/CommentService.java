@@ -0,0 +1,79 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.request.CreateCommentRequest;
+import com.web.volunteer.dto.response.CommentResponse;
+import com.web.volunteer.dto.response.UserResponse;
+import com.web.volunteer.entity.Comment;
+import com.web.volunteer.entity.Post;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.exception.ResourceNotFoundException;
+import com.web.volunteer.repository.CommentRepository;
+import com.web.volunteer.repository.PostRepository;
+import com.web.volunteer.repository.UserRepository;
+import com.web.volunteer.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentService.class);
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ActivityTracker activityTracker;
+
+    /**
+     * Comment on a post
+     */
+    @Transactional
+    public CommentResponse createComment(Long postId, CreateCommentRequest request) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        logger.info("User {} commenting on post {}", userId, postId);
+
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .content(request.getContent())
+                .post(post)
+                .author(author)
+                .build());
+
+        // Only the proxy id is read, so the event is not loaded
+        activityTracker.commentCreated(post.getEvent().getId());
+
+        return mapToCommentResponse(comment);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private CommentResponse mapToCommentResponse(Comment comment) {
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .author(mapToUserResponse(comment.getAuthor()))
+                .postId(comment.getPost().getId())
+                .likeCount(0)
+                .isLiked(false)
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+
+    private UserResponse mapToUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .role(user.getRole().name())
+                .build();
+    }
+}
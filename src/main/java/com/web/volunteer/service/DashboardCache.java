@@ -0,0 +1,186 @@
+package com.web.volunteer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.web.volunteer.dto.response.DashboardStats;
+import com.web.volunteer.dto.response.EventResponse;
+import com.web.volunteer.enums.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches dashboard sections between refreshes.
+ *
+ * The per-user part (statistics, upcoming events and the IDs of events the
+ * user is registered for) is cached per user and role. Each entry is
+ * indexed by the events it references, so a change to one event invalidates
+ * exactly the users who follow it. The shared trending and recently-active
+ * sections are cached once, without per-user flags, and spliced into every
+ * response; concurrent misses for a shared section share one computation.
+ * Invalidations run after commit.
+ */
+@Component
+public class DashboardCache {
+
+    private final Cache<UserKey, UserSections> userSections;
+    private final Cache<String, List<EventResponse>> sharedSections;
+    private final SingleFlight<String, List<EventResponse>> sharedLoads;
+    private final Map<Long, Set<UserKey>> followersByEvent = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${app.dashboard.cache.max-users}") long maxUsers,
+                          @Value("${app.dashboard.cache.ttl}") long ttlMillis,
+                          @Value("${app.dashboard.cache.shared-ttl}") long sharedTtlMillis) {
+        this.userSections = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .executor(Runnable::run)
+                .removalListener(this::unindex)
+                .recordStats()
+                .build();
+        this.sharedSections = Caffeine.newBuilder()
+                .maximumSize(16)
+                .expireAfterWrite(Duration.ofMillis(sharedTtlMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userSections, "dashboard.users");
+        CaffeineCacheMetrics.monitor(meterRegistry, sharedSections, "dashboard.shared");
+
+        this.sharedLoads = new SingleFlight<>("dashboard.shared", meterRegistry);
+    }
+
+    // ========== Per-user sections ==========
+
+    /**
+     * Cached sections of a user, or null
+     */
+    public UserSections getUserSections(Long userId, Role role) {
+        return userSections.getIfPresent(new UserKey(userId, role));
+    }
+
+    /**
+     * Current invalidation generation; read it before computing sections to cache
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cache freshly computed sections unless an invalidation happened since {@code generation}
+     */
+    public void putUserSections(Long userId, Role role, UserSections sections, long generation) {
+        UserKey key = new UserKey(userId, role);
+        index(key, sections);
+        userSections.put(key, sections);
+
+        // An invalidation may have slipped in while the sections were computed
+        if (this.generation.get() != generation) {
+            userSections.invalidate(key);
+        }
+    }
+
+    // ========== Shared sections ==========
+
+    /**
+     * Cached shared section, or null
+     */
+    public List<EventResponse> getShared(String section) {
+        return sharedSections.getIfPresent(section);
+    }
+
+    public void putShared(String section, List<EventResponse> events) {
+        sharedSections.put(section, events);
+    }
+
+    /**
+     * Start computing a shared section, or join the computation already running
+     */
+    public CompletableFuture<List<EventResponse>> loadShared(String section,
+                                                            Supplier<CompletableFuture<List<EventResponse>>> loader) {
+        return sharedLoads.executeAsync(section, loader);
+    }
+
+    // ========== Invalidation ==========
+
+    /**
+     * A user's registrations or own events changed
+     */
+    public void userChanged(Long userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            for (Role role : Role.values()) {
+                userSections.invalidate(new UserKey(userId, role));
+            }
+        });
+    }
+
+    /**
+     * An event changed: drop its creator, everyone following it, and the shared sections
+     */
+    public void eventChanged(Long eventId, Long creatorId) {
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            for (Role role : Role.values()) {
+                userSections.invalidate(new UserKey(creatorId, role));
+            }
+            Set<UserKey> followers = followersByEvent.get(eventId);
+            if (followers != null) {
+                userSections.invalidateAll(Set.copyOf(followers));
+            }
+            sharedSections.invalidateAll();
+        });
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void index(UserKey key, UserSections sections) {
+        for (Long eventId : sections.followedEventIds()) {
+            followersByEvent.computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void unindex(UserKey key, UserSections sections, RemovalCause cause) {
+        // A newer entry re-indexes itself; leftover links only cause extra invalidations
+        if (key == null || sections == null || cause == RemovalCause.REPLACED
+                || userSections.asMap().containsKey(key)) {
+            return;
+        }
+        for (Long eventId : sections.followedEventIds()) {
+            followersByEvent.computeIfPresent(eventId, (id, followers) -> {
+                followers.remove(key);
+                return followers.isEmpty() ? null : followers;
+            });
+        }
+    }
+
+    private record UserKey(Long userId, Role role) {
+    }
+
+    /**
+     * Per-user dashboard sections
+     */
+    public record UserSections(DashboardStats stats,
+                               List<EventResponse> upcomingEvents,
+                               Set<Long> registeredEventIds) {
+
+        Set<Long> followedEventIds() {
+            Set<Long> ids = new HashSet<>(registeredEventIds);
+            upcomingEvents.forEach(event -> ids.add(event.getId()));
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.response.DashboardStats;
+import com.web.volunteer.dto.response.UserStats;
+import com.web.volunteer.dto.stats.EventAggregateRow;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.repository.EventRepository;
+import com.web.volunteer.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory global counters behind the admin dashboard and user statistics.
+ *
+ * Services report event and user state transitions; the deltas are applied
+ * only after the surrounding transaction commits. A scheduled job replaces
+ * all counters with fresh aggregates from the database, which repairs any
+ * drift (and the "upcoming" count, which changes as events pass) within
+ * one reconcile interval.
+ */
+@Component
+public class DashboardCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounters.class);
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Event.EventStatus, AtomicLong> eventsByStatus = new EnumMap<>(Event.EventStatus.class);
+    private final AtomicLong upcomingEvents = new AtomicLong();
+    private final Map<Role, AtomicLong> usersByRole = new EnumMap<>(Role.class);
+    private volatile boolean initialized;
+
+    public DashboardCounters(EventRepository eventRepository,
+                             UserRepository userRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        for (Event.EventStatus status : Event.EventStatus.values()) {
+            eventsByStatus.put(status, new AtomicLong());
+        }
+        for (Role role : Role.values()) {
+            usersByRole.put(role, new AtomicLong());
+        }
+    }
+
+    // ========== Reads ==========
+
+    /**
+     * Global dashboard statistics
+     */
+    public DashboardStats adminStats() {
+        ensureInitialized();
+        return DashboardStats.builder()
+                .totalEvents(totalEvents())
+                .upcomingEvents(upcomingEvents.get())
+                .pendingApprovals(eventsByStatus.get(Event.EventStatus.PENDING).get())
+                .completedEvents(eventsByStatus.get(Event.EventStatus.COMPLETED).get())
+                .build();
+    }
+
+    /**
+     * Number of approved events
+     */
+    public long approvedEvents() {
+        ensureInitialized();
+        return eventsByStatus.get(Event.EventStatus.APPROVED).get();
+    }
+
+    /**
+     * Number of approved events that have not taken place yet
+     */
+    public long upcomingEvents() {
+        ensureInitialized();
+        return upcomingEvents.get();
+    }
+
+    /**
+     * User statistics by role
+     */
+    public UserStats userStats() {
+        ensureInitialized();
+        long volunteers = usersByRole.get(Role.VOLUNTEER).get();
+        long organizers = usersByRole.get(Role.ORGANIZER).get();
+        long admins = usersByRole.get(Role.ADMIN).get();
+
+        return UserStats.builder()
+                .totalUsers(volunteers + organizers + admins)
+                .volunteers(volunteers)
+                .eventManagers(organizers)
+                .admins(admins)
+                .build();
+    }
+
+    // ========== State transitions ==========
+
+    public void eventCreated(Event.EventStatus status, LocalDateTime eventDate) {
+        TransactionCallbacks.afterCommit(() -> adjustEvent(status, eventDate, 1));
+    }
+
+    public void eventDeleted(Event.EventStatus status, LocalDateTime eventDate) {
+        TransactionCallbacks.afterCommit(() -> adjustEvent(status, eventDate, -1));
+    }
+
+    public void eventStatusChanged(Event.EventStatus from, Event.EventStatus to, LocalDateTime eventDate) {
+        if (from == to) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            adjustEvent(from, eventDate, -1);
+            adjustEvent(to, eventDate, 1);
+        });
+    }
+
+    public void eventDateChanged(Event.EventStatus status, LocalDateTime oldDate, LocalDateTime newDate) {
+        if (status != Event.EventStatus.APPROVED || oldDate.equals(newDate)) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            upcomingEvents.addAndGet((isUpcoming(newDate, now) ? 1 : 0) - (isUpcoming(oldDate, now) ? 1 : 0));
+        });
+    }
+
+    public void userCreated(Role role) {
+        TransactionCallbacks.afterCommit(() -> usersByRole.get(role).incrementAndGet());
+    }
+
+    // ========== Reconciliation ==========
+
+    /**
+     * Replace all counters with fresh database aggregates
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.counters.reconcile-interval}")
+    public void reconcile() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            EventAggregateRow events = eventRepository.aggregateEventStats(null, LocalDateTime.now());
+            Map<Event.EventStatus, Long> statusCounts = toStatusCounts(eventRepository.countGroupedByStatus());
+            Map<Role, Long> roleCounts = toRoleCounts(userRepository.countGroupedByRole());
+
+            eventsByStatus.forEach((eventStatus, counter) ->
+                    counter.set(statusCounts.getOrDefault(eventStatus, 0L)));
+            upcomingEvents.set(events.getUpcoming());
+            usersByRole.forEach((role, counter) -> counter.set(roleCounts.getOrDefault(role, 0L)));
+        });
+
+        initialized = true;
+        logger.debug("Dashboard counters reconciled");
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    reconcile();
+                }
+            }
+        }
+    }
+
+    private long totalEvents() {
+        return eventsByStatus.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private void adjustEvent(Event.EventStatus status, LocalDateTime eventDate, int delta) {
+        eventsByStatus.get(status).addAndGet(delta);
+        if (status == Event.EventStatus.APPROVED && isUpcoming(eventDate, LocalDateTime.now())) {
+            upcomingEvents.addAndGet(delta);
+        }
+    }
+
+    private boolean isUpcoming(LocalDateTime eventDate, LocalDateTime now) {
+        return eventDate != null && !eventDate.isBefore(now);
+    }
+
+    private Map<Event.EventStatus, Long> toStatusCounts(List<Object[]> rows) {
+        Map<Event.EventStatus, Long> counts = new EnumMap<>(Event.EventStatus.class);
+        for (Object[] row : rows) {
+            counts.put((Event.EventStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private Map<Role, Long> toRoleCounts(List<Object[]> rows) {
+        Map<Role, Long> counts = new EnumMap<>(Role.class);
+        for (Object[] row : rows) {
+            counts.put((Role) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
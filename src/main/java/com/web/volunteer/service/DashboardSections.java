@@ -0,0 +1,141 @@
+package com.web.volunteer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent sections of a dashboard concurrently, one virtual
+ * thread and one read-only transaction per section. A section that fails
+ * or misses its deadline resolves to the last good value for the same
+ * user (or the given empty value) instead of holding up the response.
+ *
+ * Sections of all dashboards together hold at most a configured share of
+ * the connection pool. The deadline is enforced by the database: each
+ * section's transaction times out with it, so Spring sets a query timeout
+ * and PostgreSQL cancels the statement. The section's thread is never
+ * interrupted, because interrupting PgJDBC socket I/O closes the connection
+ * and the pool would have to replace it. A section still waiting for a
+ * permit at its deadline gives up without running.
+ *
+ * Sections run with the caller's SecurityContext. The read/write router
+ * needs it to keep a user who has just written on the primary; without it
+ * every section would read from the replica.
+ */
+@Component
+public class DashboardSections {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSections.class);
+
+    private final ExecutorService executor =
+            new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Object> lastGood;
+    private final Semaphore connectionPermits;
+    private final long timeoutMillis;
+
+    public DashboardSections(PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.dashboard.section-timeout}") long timeoutMillis,
+                             @Value("${app.dashboard.stale-sections-max-size}") long staleMaxSize,
+                             @Value("${spring.datasource.hikari.maximum-pool-size}") int maximumPoolSize,
+                             @Value("${app.dashboard.max-pool-share}") double maxPoolShare) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+        this.connectionPermits = new Semaphore(Math.max(1, (int) Math.floor(maximumPoolSize * maxPoolShare)), true);
+        this.lastGood = Caffeine.newBuilder()
+                .maximumSize(staleMaxSize)
+                .build();
+    }
+
+    /**
+     * A section's value, and whether it is a stale or empty fallback instead of a fresh result
+     */
+    public record Section<T>(T value, boolean fellBack) {
+    }
+
+    /**
+     * Start computing a section; the returned future never completes exceptionally
+     */
+    public <T> CompletableFuture<Section<T>> fork(String section, Long userId, Supplier<T> task, T empty) {
+        String key = section + ":" + userId;
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(() -> {
+            try {
+                T value = withConnectionPermit(deadline, () -> readOnlyTransaction.execute(status -> task.get()));
+                lastGood.put(key, value);
+                result.complete(value);
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        });
+
+        return result
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((value, error) -> {
+                    String outcome = error == null ? "success"
+                            : error instanceof TimeoutException ? "timeout" : "error";
+                    record(section, outcome, start);
+
+                    if (error == null) {
+                        return new Section<>(value, false);
+                    }
+                    // Only drops a section that has not started; a running query ends at its timeout
+                    running.cancel(false);
+                    logger.warn("Dashboard section '{}' {}; serving stale or empty data", section, outcome,
+                            error instanceof TimeoutException ? null : error);
+                    @SuppressWarnings("unchecked")
+                    T stale = (T) lastGood.getIfPresent(key);
+                    return new Section<>(stale != null ? stale : empty, true);
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T withConnectionPermit(long deadline, Supplier<T> query)
+            throws InterruptedException, TimeoutException {
+        if (!connectionPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("No connection permit before the section deadline");
+        }
+        try {
+            return query.get();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private void record(String section, String outcome, long startNanos) {
+        Timer.builder("dashboard.section")
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -5,24 +5,25 @@ import com.web.volunteer.dto.response.DashboardStats;
 import com.web.volunteer.dto.response.EventResponse;
 import com.web.volunteer.dto.response.PostResponse;
 import com.web.volunteer.entity.Event;
-import com.web.volunteer.entity.EventRegistration;
-import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
 import com.web.volunteer.exception.ResourceNotFoundException;
 import com.web.volunteer.repository.EventRegistrationRepository;
 import com.web.volunteer.repository.EventRepository;
 import com.web.volunteer.repository.PostRepository;
 import com.web.volunteer.repository.UserRepository;
 import com.web.volunteer.security.SecurityUtils;
+import com.web.volunteer.service.DashboardSections.Section;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,15 +32,23 @@ public class DashboardService {
 
     private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
 
+    private static final DashboardStats EMPTY_STATS = DashboardStats.builder().build();
+
     private final EventRepository eventRepository;
     private final EventRegistrationRepository registrationRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final DashboardStatsEngine dashboardStatsEngine;
+    private final DashboardSections dashboardSections;
+    private final TrendingTracker trendingTracker;
+    private final ActivityTracker activityTracker;
+    private final EventResponseAssembler eventResponseAssembler;
+    private final DashboardCache dashboardCache;
 
     /**
-     * Get dashboard data based on user role
+     * Get dashboard data based on user role. Sections are gathered concurrently,
+     * each in its own read-only transaction, so no transaction is held here.
      */
-    @Transactional(readOnly = true)
     public DashboardResponse getDashboard() {
         Long userId = SecurityUtils.getCurrentUserId();
         String role = SecurityUtils.getCurrentUserDetails().getRole();
@@ -48,7 +57,7 @@ public class DashboardService {
 
         return switch (role) {
             case "VOLUNTEER" -> getVolunteerDashboard(userId);
-            case "EVENT_MANAGER" -> getEventManagerDashboard(userId);
+            case "ORGANIZER" -> getEventManagerDashboard(userId);
             case "ADMIN" -> getAdminDashboard(userId);
             default -> throw new IllegalStateException("Unknown role: " + role);
         };
@@ -58,167 +67,172 @@ public class DashboardService {
      * Get volunteer dashboard
      */
     private DashboardResponse getVolunteerDashboard(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        DashboardCache.UserSections cached = dashboardCache.getUserSections(userId, Role.VOLUNTEER);
+        if (cached != null) {
+            return assembleDashboard(userId, cached);
+        }
+
+        requireUser(userId);
+        long generation = dashboardCache.generation();
 
         // Statistics
-        long myRegistrations = registrationRepository.countByUser(user);
-        long completedEvents = registrationRepository.findByUser(user, Pageable.unpaged())
-                .stream()
-                .filter(EventRegistration::isCompleted)
-                .count();
-
-        DashboardStats stats = DashboardStats.builder()
-                .totalEvents(eventRepository.countByStatus(Event.EventStatus.APPROVED))
-                .upcomingEvents(countUpcomingEvents())
-                .myRegistrations(myRegistrations)
-                .completedEvents(completedEvents)
-                .build();
+        CompletableFuture<Section<DashboardStats>> stats = dashboardSections.fork("stats", userId,
+                () -> dashboardStatsEngine.computeStats(Role.VOLUNTEER, userId), EMPTY_STATS);
 
         // Upcoming events user is registered for
-        List<EventRegistration> upcomingRegs = registrationRepository
-                .findUpcomingRegistrationsByUser(user);
-        List<EventResponse> upcomingEvents = upcomingRegs.stream()
-                .map(reg -> mapToEventResponse(reg.getEvent(), userId))
-                .limit(5)
-                .collect(Collectors.toList());
-
-        // Trending events
-        List<EventResponse> trending = getTrendingEvents(5, userId);
-
-        // Recently active events
-        List<EventResponse> recentlyActive = getRecentlyActiveEvents(5, userId);
-
-        return DashboardResponse.builder()
-                .stats(stats)
-                .upcomingEvents(upcomingEvents)
-                .trendingEvents(trending)
-                .recentlyActiveEvents(recentlyActive)
-                .build();
+        CompletableFuture<Section<List<EventResponse>>> upcomingEvents = dashboardSections.fork("upcoming", userId,
+                () -> eventResponseAssembler.toResponsesByIds(registrationRepository
+                        .findUpcomingRegistrationsByUser(userRepository.getReferenceById(userId))
+                        .stream()
+                        // Only the proxy id is read, so the events load in one query
+                        .map(reg -> reg.getEvent().getId())
+                        .limit(5)
+                        .collect(Collectors.toList()), userId),
+                List.of());
+
+        return cacheAndAssemble(userId, Role.VOLUNTEER, generation, stats, upcomingEvents);
     }
 
     /**
      * Get event manager dashboard
      */
     private DashboardResponse getEventManagerDashboard(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        DashboardCache.UserSections cached = dashboardCache.getUserSections(userId, Role.ORGANIZER);
+        if (cached != null) {
+            return assembleDashboard(userId, cached);
+        }
+
+        requireUser(userId);
+        long generation = dashboardCache.generation();
 
         // Statistics
-        Page<Event> myEvents = eventRepository.findByCreator(user, Pageable.unpaged());
-        long pendingApprovals = myEvents.stream()
-                .mapToLong(event -> registrationRepository.findByEventAndStatus(
-                        event,
-                        EventRegistration.RegistrationStatus.PENDING,
-                        Pageable.unpaged()
-                ).getTotalElements())
-                .sum();
-
-        long myApprovedEvents = myEvents.stream()
-                .filter(event -> event.getStatus() == Event.EventStatus.APPROVED)
-                .count();
-
-        DashboardStats stats = DashboardStats.builder()
-                .totalEvents(myEvents.getTotalElements())
-                .upcomingEvents(countMyUpcomingEvents(user))
-                .myRegistrations(0L) // Not applicable for event managers
-                .pendingApprovals(pendingApprovals)
-                .completedEvents(countMyCompletedEvents(user))
-                .build();
+        CompletableFuture<Section<DashboardStats>> stats = dashboardSections.fork("stats", userId,
+                () -> dashboardStatsEngine.computeStats(Role.ORGANIZER, userId), EMPTY_STATS);
 
         // My upcoming events
-        List<EventResponse> upcomingEvents = myEvents.getContent().stream()
-                .filter(event -> event.getStatus() == Event.EventStatus.APPROVED)
-                .filter(event -> event.getEventDate().isAfter(LocalDateTime.now()))
-                .sorted((e1, e2) -> e1.getEventDate().compareTo(e2.getEventDate()))
-                .limit(5)
-                .map(event -> mapToEventResponse(event, userId))
-                .collect(Collectors.toList());
-
-        // Trending events
-        List<EventResponse> trending = getTrendingEvents(5, userId);
+        CompletableFuture<Section<List<EventResponse>>> upcomingEvents = dashboardSections.fork("upcoming", userId,
+                () -> eventResponseAssembler.toResponses(eventRepository
+                        .findUpcomingByCreator(userId, LocalDateTime.now(), PageRequest.of(0, 5)), userId),
+                List.of());
 
-        // Recently active events (with new posts)
-        List<EventResponse> recentlyActive = getRecentlyActiveEvents(5, userId);
-
-        return DashboardResponse.builder()
-                .stats(stats)
-                .upcomingEvents(upcomingEvents)
-                .trendingEvents(trending)
-                .recentlyActiveEvents(recentlyActive)
-                .build();
+        return cacheAndAssemble(userId, Role.ORGANIZER, generation, stats, upcomingEvents);
     }
 
     /**
-     * Get admin dashboard
+     * Get admin dashboard (not cached: pending approvals change with every new event)
      */
     private DashboardResponse getAdminDashboard(Long userId) {
         // Global statistics
-        long totalEvents = eventRepository.count();
-        long pendingEvents = eventRepository.countByStatus(Event.EventStatus.PENDING);
-        long approvedEvents = eventRepository.countByStatus(Event.EventStatus.APPROVED);
-        long totalUsers = userRepository.count();
-
-        DashboardStats stats = DashboardStats.builder()
-                .totalEvents(totalEvents)
-                .upcomingEvents(countUpcomingEvents())
-                .pendingApprovals(pendingEvents)
-                .completedEvents(eventRepository.countByStatus(Event.EventStatus.COMPLETED))
-                .build();
+        CompletableFuture<Section<DashboardStats>> stats = dashboardSections.fork("stats", userId,
+                () -> dashboardStatsEngine.computeStats(Role.ADMIN, userId), EMPTY_STATS);
 
-        // Pending events for approval
-        List<Event> pendingEventsList = eventRepository
-                .findByStatus(Event.EventStatus.PENDING, PageRequest.of(0, 5))
-                .getContent();
-        List<EventResponse> pendingEventsResponse = pendingEventsList.stream()
-                .map(event -> mapToEventResponse(event, userId))
-                .collect(Collectors.toList());
+        // Pending events for approval (shown in place of upcoming events for admin)
+        CompletableFuture<Section<List<EventResponse>>> pendingEvents = dashboardSections.fork("upcoming", userId,
+                () -> eventResponseAssembler.toResponses(eventRepository
+                        .findByStatusFirstPage(Event.EventStatus.PENDING, PageRequest.of(0, 5)), userId),
+                List.of());
+
+        CompletableFuture<Section<Set<Long>>> registeredEventIds = forkRegisteredEventIds(userId);
+
+        return assembleDashboard(stats.join().value(), pendingEvents.join().value(),
+                registeredEventIds.join().value());
+    }
+
+    /**
+     * Wait for freshly computed per-user sections and cache them if none fell back
+     */
+    private DashboardResponse cacheAndAssemble(Long userId, Role role, long generation,
+                                               CompletableFuture<Section<DashboardStats>> stats,
+                                               CompletableFuture<Section<List<EventResponse>>> upcomingEvents) {
+        CompletableFuture<Section<Set<Long>>> registeredEventIds = forkRegisteredEventIds(userId);
+
+        Section<DashboardStats> statsSection = stats.join();
+        Section<List<EventResponse>> upcomingSection = upcomingEvents.join();
+        Section<Set<Long>> registeredSection = registeredEventIds.join();
+
+        // Stale or empty fallbacks are served once but never cached
+        if (!statsSection.fellBack() && !upcomingSection.fellBack() && !registeredSection.fellBack()) {
+            dashboardCache.putUserSections(userId, role, new DashboardCache.UserSections(
+                    statsSection.value(), upcomingSection.value(), registeredSection.value()), generation);
+        }
+
+        return assembleDashboard(statsSection.value(), upcomingSection.value(), registeredSection.value());
+    }
+
+    private DashboardResponse assembleDashboard(Long userId, DashboardCache.UserSections cached) {
+        logger.debug("Serving cached dashboard sections for user {}", userId);
+        return assembleDashboard(cached.stats(), cached.upcomingEvents(), cached.registeredEventIds());
+    }
 
+    /**
+     * Splice the shared sections into the per-user ones
+     */
+    private DashboardResponse assembleDashboard(DashboardStats stats,
+                                                List<EventResponse> upcomingEvents,
+                                                Set<Long> registeredEventIds) {
         // Trending events
-        List<EventResponse> trending = getTrendingEvents(5, userId);
+        CompletableFuture<List<EventResponse>> trending = sharedSection("trending",
+                () -> getTrendingEvents(5, null));
 
-        // Recently active events
-        List<EventResponse> recentlyActive = getRecentlyActiveEvents(5, userId);
+        // Recently active events (with new posts)
+        CompletableFuture<List<EventResponse>> recentlyActive = sharedSection("recently-active",
+                () -> getRecentlyActiveEvents(5, null));
 
         return DashboardResponse.builder()
                 .stats(stats)
-                .upcomingEvents(pendingEventsResponse) // Show pending events for admin
-                .trendingEvents(trending)
-                .recentlyActiveEvents(recentlyActive)
+                .upcomingEvents(upcomingEvents)
+                .trendingEvents(withRegistrationFlags(trending.join(), registeredEventIds))
+                .recentlyActiveEvents(withRegistrationFlags(recentlyActive.join(), registeredEventIds))
                 .build();
     }
 
     /**
-     * Get trending events (by registration growth)
+     * A section shared by every user, computed without per-user flags and cached once
+     */
+    private CompletableFuture<List<EventResponse>> sharedSection(String section,
+                                                                 Supplier<List<EventResponse>> loader) {
+        List<EventResponse> cached = dashboardCache.getShared(section);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return dashboardCache.loadShared(section, () -> dashboardSections.fork(section, null, loader, List.of())
+                .thenApply(events -> {
+                    if (!events.fellBack()) {
+                        dashboardCache.putShared(section, events.value());
+                    }
+                    return events.value();
+                }));
+    }
+
+    private CompletableFuture<Section<Set<Long>>> forkRegisteredEventIds(Long userId) {
+        return dashboardSections.fork("registered", userId,
+                () -> Set.copyOf(registrationRepository.findEventIdsByUserId(userId)), Set.of());
+    }
+
+    /**
+     * Get trending events (by registration growth over the last 7 days)
      */
     @Transactional(readOnly = true)
     public List<EventResponse> getTrendingEvents(int limit, Long currentUserId) {
         logger.info("Fetching trending events");
 
-        LocalDateTime since = LocalDateTime.now().minusDays(7);
-        Pageable pageable = PageRequest.of(0, limit);
-
-        List<Event> trendingEvents = eventRepository.findTrendingEvents(since, pageable);
-
-        return trendingEvents.stream()
-                .map(event -> mapToEventResponse(event, currentUserId))
-                .collect(Collectors.toList());
+        List<Long> trendingEventIds = trendingTracker.topEventIds(limit);
+        return eventResponseAssembler.toResponsesByIds(trendingEventIds, currentUserId);
     }
 
     /**
-     * Get recently active events (by post activity)
+     * Get recently active events (by decayed post, comment and like activity)
      */
     @Transactional(readOnly = true)
     public List<EventResponse> getRecentlyActiveEvents(int limit, Long currentUserId) {
         logger.info("Fetching recently active events");
 
-        LocalDateTime since = LocalDateTime.now().minusDays(3);
-        Pageable pageable = PageRequest.of(0, limit);
-
-        List<Event> activeEvents = eventRepository.findEventsWithRecentActivity(since, pageable);
-
-        return activeEvents.stream()
-                .map(event -> mapToEventResponse(event, currentUserId))
+        // Over-fetch a little: ranked events may have since been completed or cancelled
+        List<Long> activeEventIds = activityTracker.topEventIds(limit * 2);
+        return eventResponseAssembler.toResponsesByIds(activeEventIds, currentUserId).stream()
+                .filter(event -> Event.EventStatus.APPROVED.name().equals(event.getStatus()))
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
@@ -242,111 +256,22 @@ public class DashboardService {
         Long userId = SecurityUtils.getCurrentUserId();
         String role = SecurityUtils.getCurrentUserDetails().getRole();
 
-        return switch (role) {
-            case "VOLUNTEER" -> getVolunteerStats(userId);
-            case "EVENT_MANAGER" -> getEventManagerStats(userId);
-            case "ADMIN" -> getAdminStats();
-            default -> throw new IllegalStateException("Unknown role: " + role);
-        };
-    }
-
-    private DashboardStats getVolunteerStats(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
-        long myRegistrations = registrationRepository.countByUser(user);
-        long completedEvents = registrationRepository.findByUser(user, Pageable.unpaged())
-                .stream()
-                .filter(EventRegistration::isCompleted)
-                .count();
-
-        return DashboardStats.builder()
-                .totalEvents(eventRepository.countByStatus(Event.EventStatus.APPROVED))
-                .upcomingEvents(countUpcomingEvents())
-                .myRegistrations(myRegistrations)
-                .completedEvents(completedEvents)
-                .build();
-    }
-
-    private DashboardStats getEventManagerStats(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
-        long totalMyEvents = eventRepository.findByCreator(user, Pageable.unpaged()).getTotalElements();
-        long pendingApprovals = eventRepository.findByCreator(user, Pageable.unpaged())
-                .stream()
-                .mapToLong(event -> registrationRepository.findByEventAndStatus(
-                        event,
-                        EventRegistration.RegistrationStatus.PENDING,
-                        Pageable.unpaged()
-                ).getTotalElements())
-                .sum();
-
-        return DashboardStats.builder()
-                .totalEvents(totalMyEvents)
-                .upcomingEvents(countMyUpcomingEvents(user))
-                .pendingApprovals(pendingApprovals)
-                .completedEvents(countMyCompletedEvents(user))
-                .build();
-    }
-
-    private DashboardStats getAdminStats() {
-        return DashboardStats.builder()
-                .totalEvents(eventRepository.count())
-                .upcomingEvents(countUpcomingEvents())
-                .pendingApprovals(eventRepository.countByStatus(Event.EventStatus.PENDING))
-                .completedEvents(eventRepository.countByStatus(Event.EventStatus.COMPLETED))
-                .build();
+        return dashboardStatsEngine.computeStats(Role.valueOf(role), userId);
     }
 
     // ========== Private Helper Methods ==========
 
-    private long countUpcomingEvents() {
-        return eventRepository.findUpcomingApprovedEvents(
-                LocalDateTime.now(),
-                Pageable.unpaged()
-        ).getTotalElements();
-    }
-
-    private long countMyUpcomingEvents(User user) {
-        return eventRepository.findByCreator(user, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStatus() == Event.EventStatus.APPROVED)
-                .filter(event -> event.getEventDate().isAfter(LocalDateTime.now()))
-                .count();
-    }
-
-    private long countMyCompletedEvents(User user) {
-        return eventRepository.findByCreator(user, Pageable.unpaged())
-                .stream()
-                .filter(event -> event.getStatus() == Event.EventStatus.COMPLETED)
-                .count();
-    }
-
-    private EventResponse mapToEventResponse(Event event, Long currentUserId) {
-        long currentParticipants = registrationRepository.countApprovedRegistrationsByEvent(event);
-
-        boolean isRegistered = false;
-        if (currentUserId != null) {
-            User user = userRepository.findById(currentUserId).orElse(null);
-            if (user != null) {
-                isRegistered = registrationRepository.existsByUserAndEvent(user, event);
-            }
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
         }
+    }
 
-        return EventResponse.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .location(event.getLocation())
-                .eventDate(event.getEventDate())
-                .registrationDeadline(event.getRegistrationDeadline())
-                .maxParticipants(event.getMaxParticipants())
-                .currentParticipants((int) currentParticipants)
-                .status(event.getStatus().name())
-                .createdAt(event.getCreatedAt())
-                .canRegister(event.canRegister())
-                .isRegistered(isRegistered)
-                .build();
+    private List<EventResponse> withRegistrationFlags(List<EventResponse> events, Set<Long> registeredEventIds) {
+        return events.stream()
+                .map(event -> event.toBuilder()
+                        .isRegistered(registeredEventIds.contains(event.getId()))
+                        .build())
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,63 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.response.DashboardStats;
+import com.web.volunteer.dto.stats.EventAggregateRow;
+import com.web.volunteer.dto.stats.RegistrationAggregateRow;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.repository.EventRegistrationRepository;
+import com.web.volunteer.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+
+/**
+ * Computes DashboardStats with grouped aggregate queries (conditional
+ * counts), so the cost does not depend on how many events or
+ * registrations the user owns. At most two queries per role; global
+ * (admin) statistics come from the in-memory DashboardCounters.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardStatsEngine {
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final DashboardCounters dashboardCounters;
+
+    /**
+     * Compute dashboard statistics for a user of the given role
+     */
+    @Transactional(readOnly = true)
+    public DashboardStats computeStats(Role role, Long userId) {
+        return switch (role) {
+            case VOLUNTEER -> volunteerStats(userId);
+            case ORGANIZER -> organizerStats(userId);
+            case ADMIN -> dashboardCounters.adminStats();
+        };
+    }
+
+    private DashboardStats volunteerStats(Long userId) {
+        RegistrationAggregateRow registrations = registrationRepository.aggregateRegistrationStats(userId, null);
+
+        return DashboardStats.builder()
+                .totalEvents(dashboardCounters.approvedEvents())
+                .upcomingEvents(dashboardCounters.upcomingEvents())
+                .myRegistrations(registrations.getTotal())
+                .completedEvents(registrations.getCompleted())
+                .build();
+    }
+
+    private DashboardStats organizerStats(Long userId) {
+        EventAggregateRow events = eventRepository.aggregateEventStats(userId, LocalDateTime.now());
+        RegistrationAggregateRow registrations = registrationRepository.aggregateRegistrationStats(null, userId);
+
+        return DashboardStats.builder()
+                .totalEvents(events.getTotal())
+                .upcomingEvents(events.getUpcoming())
+                .myRegistrations(0L) // Not applicable for organizers
+                .pendingApprovals(registrations.getPending())
+                .completedEvents(events.getCompleted())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.web.volunteer.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.web.volunteer.dto.response.EventResponse;
+import com.web.volunteer.entity.Category;
+import com.web.volunteer.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through caches for event details and categories.
+ *
+ * Event entries hold only the part of EventResponse that is the same for
+ * every caller (isRegistered is left unset); callers merge per-user fields
+ * on the way out. Entries are evicted after commit by the write paths that
+ * change them, and bounded by size and TTL otherwise. Categories have no
+ * write path in the application, so the TTL alone keeps them fresh.
+ *
+ * Concurrent misses for the same key are coalesced into one load, so a burst
+ * of requests for a freshly announced event waits on a single query instead
+ * of queueing behind the cache's per-bin lock.
+ */
+@Component
+public class EventCache {
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<Long, EventResponse> eventDetails;
+    private final Cache<Long, Category> categories;
+    private final SingleFlight<Long, EventResponse> eventDetailLoads;
+    private final SingleFlight<Long, Optional<Category>> categoryLoads;
+
+    public EventCache(CategoryRepository categoryRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${app.event-cache.max-size}") long maxSize,
+                      @Value("${app.event-cache.ttl}") long ttlMillis,
+                      @Value("${app.event-cache.category-ttl}") long categoryTtlMillis) {
+        this.categoryRepository = categoryRepository;
+        this.eventDetails = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofMillis(categoryTtlMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, eventDetails, "events.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, categories, "categories");
+
+        this.eventDetailLoads = new SingleFlight<>("events.detail", meterRegistry);
+        this.categoryLoads = new SingleFlight<>("categories", meterRegistry);
+    }
+
+    // ========== Events ==========
+
+    /**
+     * Shared part of an event's response, loaded on a miss
+     */
+    public EventResponse eventDetail(Long eventId, Function<Long, EventResponse> loader) {
+        EventResponse cached = eventDetails.getIfPresent(eventId);
+        if (cached != null) {
+            return cached;
+        }
+        return eventDetailLoads.execute(eventId, () -> eventDetails.get(eventId, loader));
+    }
+
+    /**
+     * Drop an event's cached details once the current transaction commits
+     */
+    public void evictEvent(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> eventDetails.invalidate(eventId));
+    }
+
+    /**
+     * Drop every cached event (after a bulk repair of participant counts)
+     */
+    public void evictAllEvents() {
+        TransactionCallbacks.afterCommit(eventDetails::invalidateAll);
+    }
+
+    // ========== Categories ==========
+
+    public Optional<Category> category(Long categoryId) {
+        Category cached = categories.getIfPresent(categoryId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return categoryLoads.execute(categoryId, () -> Optional.ofNullable(categories.get(categoryId,
+                id -> categoryRepository.findById(id).orElse(null))));
+    }
+
+    /**
+     * Categories by ID; IDs that do not exist are missing from the result
+     */
+    public Map<Long, Category> categories(Collection<Long> categoryIds) {
+        return categories.getAll(categoryIds, missing -> categoryRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity())));
+    }
+}
@@ -0,0 +1,82 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.response.EventResponse;
+import com.web.volunteer.dto.response.PageResponse;
+import com.web.volunteer.entity.Event;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Strong ETags for event responses, digested from the fields that change
+ * what is rendered: updatedAt (bumped by every event write), the approved
+ * count (maintained by bulk updates that leave updatedAt alone), status,
+ * whether registration is open and the caller's "is registered" flag.
+ * Listings also digest the page metadata, cursor and facets, so a change in
+ * page membership or totals changes the tag. Creator and category names are
+ * not part of the tag.
+ */
+final class EventETag {
+
+    private final MessageDigest digest;
+
+    private EventETag() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tag of a single event response
+     */
+    static String of(EventResponse event) {
+        return new EventETag()
+                .add(event.getId())
+                .add(event.getUpdatedAt())
+                .add(event.getCurrentParticipants())
+                .add(event.getStatus())
+                .add(event.getCanRegister())
+                .add(event.getIsRegistered())
+                .build();
+    }
+
+    /**
+     * Tag of a page of events, computed before the events are mapped
+     */
+    static String of(PageResponse<Event> page, Set<Long> registeredEventIds) {
+        EventETag tag = new EventETag()
+                .add(page.getPageNumber())
+                .add(page.getPageSize())
+                .add(page.getTotalElements())
+                .add(page.getTotalPages())
+                .add(page.isFirst())
+                .add(page.isLast())
+                .add(page.getNextCursor())
+                .add(page.getFacets());
+        for (Event event : page.getContent()) {
+            tag.add(event.getId())
+                    .add(event.getUpdatedAt())
+                    .add(event.getApprovedCount())
+                    .add(event.getStatus())
+                    .add(event.canRegister())
+                    .add(registeredEventIds.contains(event.getId()));
+        }
+        return tag.build();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private EventETag add(Object value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        return this;
+    }
+
+    private String build() {
+        return '"' + HexFormat.of().formatHex(digest.digest(), 0, 16) + '"';
+    }
+}
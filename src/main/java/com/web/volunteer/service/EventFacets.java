@@ -0,0 +1,70 @@
+package com.web.volunteer.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Facet counts returned next to event search results: per category ID
+ * ("none" for uncategorized), per week (ISO date of its Monday), per month
+ * (yyyy-MM) and per capacity ("open" or "full").
+ */
+final class EventFacets {
+
+    static final String CATEGORY = "category";
+    static final String WEEK = "week";
+    static final String MONTH = "month";
+    static final String CAPACITY = "capacity";
+
+    private final Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+
+    EventFacets() {
+        for (String facet : List.of(CATEGORY, WEEK, MONTH, CAPACITY)) {
+            counts.put(facet, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Count one matching event in every facet
+     */
+    void add(Long categoryId, LocalDateTime eventDate, boolean full) {
+        add(CATEGORY, categoryId != null ? categoryId.toString() : "none", 1);
+        add(WEEK, eventDate.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).toString(), 1);
+        add(MONTH, YearMonth.from(eventDate).toString(), 1);
+        add(CAPACITY, full ? "full" : "open", 1);
+    }
+
+    void add(String facet, String value, long count) {
+        counts.get(facet).merge(value, count, Long::sum);
+    }
+
+    Map<String, Map<String, Long>> toMap() {
+        return counts;
+    }
+
+    /**
+     * Facets from grouping-set rows (category, week, month, capacity, count);
+     * exactly one of the key columns is set in each row
+     */
+    static EventFacets fromGroupedRows(List<Object[]> rows) {
+        EventFacets facets = new EventFacets();
+        for (Object[] row : rows) {
+            long count = ((Number) row[4]).longValue();
+            if (row[0] != null) {
+                facets.add(CATEGORY, (String) row[0], count);
+            } else if (row[1] != null) {
+                facets.add(WEEK, (String) row[1], count);
+            } else if (row[2] != null) {
+                facets.add(MONTH, (String) row[2], count);
+            } else if (row[3] != null) {
+                facets.add(CAPACITY, (String) row[3], count);
+            }
+        }
+        return facets;
+    }
+}
@@ -0,0 +1,155 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.response.CategoryResponse;
+import com.web.volunteer.dto.response.EventResponse;
+import com.web.volunteer.dto.response.UserResponse;
+import com.web.volunteer.entity.Category;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.repository.EventRegistrationRepository;
+import com.web.volunteer.repository.EventRepository;
+import com.web.volunteer.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds EventResponse DTOs for a whole page of events at once.
+ * "Is registered" flags, creators and categories are loaded with one
+ * grouped query each instead of once per event.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventResponseAssembler {
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final UserRepository userRepository;
+    private final EventCache eventCache;
+
+    /**
+     * Map a single event
+     */
+    public EventResponse toResponse(Event event, Long currentUserId) {
+        return toResponses(List.of(event), currentUserId).get(0);
+    }
+
+    /**
+     * Load and map events by ID, preserving the order of the IDs; missing events are skipped
+     */
+    public List<EventResponse> toResponsesByIds(List<Long> eventIds, Long currentUserId) {
+        return toResponses(findAllInOrder(eventIds), currentUserId);
+    }
+
+    /**
+     * Load events by ID, preserving the order of the IDs; missing events are skipped
+     */
+    public List<Event> findAllInOrder(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Event> eventsById = eventRepository.findAllById(eventIds).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return eventIds.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * IDs of the given events the user is registered for
+     */
+    public Set<Long> registeredEventIds(List<Event> events, Long currentUserId) {
+        if (currentUserId == null || events.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .collect(Collectors.toSet());
+        return new HashSet<>(registrationRepository.findRegisteredEventIds(currentUserId, eventIds));
+    }
+
+    /**
+     * Map a page of events, preserving order
+     */
+    public List<EventResponse> toResponses(List<Event> events, Long currentUserId) {
+        return toResponses(events, registeredEventIds(events, currentUserId));
+    }
+
+    /**
+     * Map a page of events with "is registered" flags already loaded, preserving order
+     */
+    public List<EventResponse> toResponses(List<Event> events, Set<Long> registeredEventIds) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        // Only the proxy ids are read here, so no lazy loading is triggered
+        Set<Long> creatorIds = events.stream()
+                .map(event -> event.getCreator().getId())
+                .collect(Collectors.toSet());
+        Map<Long, User> creators = userRepository.findAllById(creatorIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Set<Long> categoryIds = events.stream()
+                .map(Event::getCategory)
+                .filter(Objects::nonNull)
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Category> categories = categoryIds.isEmpty()
+                ? Collections.emptyMap()
+                : eventCache.categories(categoryIds);
+
+        return events.stream()
+                .map(event -> {
+                    Category category = event.getCategory() != null
+                            ? categories.get(event.getCategory().getId())
+                            : null;
+
+                    return EventResponse.builder()
+                            .id(event.getId())
+                            .title(event.getTitle())
+                            .description(event.getDescription())
+                            .location(event.getLocation())
+                            .eventDate(event.getEventDate())
+                            .registrationDeadline(event.getRegistrationDeadline())
+                            .maxParticipants(event.getMaxParticipants())
+                            .currentParticipants(event.getApprovedCount())
+                            .status(event.getStatus().name())
+                            .category(category != null ? mapToCategoryResponse(category) : null)
+                            .creator(mapToUserResponse(creators.get(event.getCreator().getId())))
+                            .createdAt(event.getCreatedAt())
+                            .updatedAt(event.getUpdatedAt())
+                            .approvedAt(event.getApprovedAt())
+                            .canRegister(event.canRegister())
+                            .isRegistered(registeredEventIds.contains(event.getId()))
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    private CategoryResponse mapToCategoryResponse(Category category) {
+        return CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .build();
+    }
+
+    private UserResponse mapToUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .role(user.getRole().name())
+                .build();
+    }
+}
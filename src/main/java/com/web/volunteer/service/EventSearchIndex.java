@@ -0,0 +1,614 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over approved events (title, location and
+ * description) for search and autocomplete without touching the database.
+ *
+ * Each term maps to a posting list of int document ordinals, sorted, with a
+ * parallel array of field weights. A sorted term dictionary gives prefix
+ * lookups for type-ahead. Readers work on an immutable snapshot without
+ * locking. Writers are serialized and copy the term, document and ordinal
+ * maps, which costs O(index); posting lists they do not touch are shared
+ * with the previous snapshot. To keep that copy off the per-event path,
+ * changes are queued and applied in batches: every change that queued up
+ * while the previous batch was applied goes into one copy and one swap.
+ * The index is rebuilt from the database at startup; changes that arrive
+ * during the rebuild are replayed on top of it.
+ *
+ * Approved-seat counts change with every registration decision, so they
+ * are kept outside the snapshot and only feed the capacity facet.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int MAX_PREFIX_TERMS = 64;
+    private static final int MAX_SUGGEST_SCAN = 2000;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final int TITLE_WEIGHT = 4;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+    private boolean rebuilding;
+    private final List<Change> pendingChanges = new ArrayList<>();
+    private final Queue<Change> queuedChanges = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Integer> approvedCounts = new ConcurrentHashMap<>();
+
+    public EventSearchIndex(EventRepository eventRepository, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Lowercased letter/digit tokens of free text, at most MAX_QUERY_TOKENS
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .limit(MAX_QUERY_TOKENS)
+                .toList();
+    }
+
+    /**
+     * Whether the startup rebuild has finished
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether every token of {@code text} is a prefix of at most MAX_PREFIX_TERMS
+     * terms. Broader prefixes union too many posting lists to be cheaper here
+     * than the database's full-text index, so callers should search there.
+     */
+    public boolean isSelective(String text) {
+        Snapshot current = snapshot;
+        for (String token : tokenize(text)) {
+            int first = firstWithPrefix(current.terms, token);
+            int last = first + MAX_PREFIX_TERMS;
+            if (last < current.terms.length && current.terms[last].startsWith(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ========== Queries ==========
+
+    /**
+     * One page of matching event IDs, most relevant first
+     */
+    public SearchPage search(String text, Long categoryId, LocalDateTime startDate, LocalDateTime endDate,
+                             int offset, int limit) {
+        List<Hit> hits = match(snapshot, text, categoryId, startDate, endDate);
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparing(Hit::eventDate)
+                .thenComparing(Hit::eventId));
+
+        List<Long> eventIds = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Hit::eventId)
+                .toList();
+        return new SearchPage(eventIds, hits.size(), facetsOf(hits));
+    }
+
+    /**
+     * Facet counts over all matches, in a single pass
+     */
+    public Map<String, Map<String, Long>> facets(String text, Long categoryId,
+                                                 LocalDateTime startDate, LocalDateTime endDate) {
+        return facetsOf(match(snapshot, text, categoryId, startDate, endDate));
+    }
+
+    /**
+     * Up to {@code limit} matches after a (eventDate, id) cursor, in that order
+     */
+    public List<Hit> searchAfter(String text, Long categoryId, LocalDateTime startDate, LocalDateTime endDate,
+                                 LocalDateTime afterDate, Long afterId, int limit) {
+        return match(snapshot, text, categoryId, startDate, endDate).stream()
+                .filter(hit -> afterDate == null || hit.eventDate().isAfter(afterDate)
+                        || (hit.eventDate().isEqual(afterDate) && hit.eventId() > afterId))
+                .sorted(Comparator.comparing(Hit::eventDate).thenComparing(Hit::eventId))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Completions of the last word of {@code prefix}, most common first
+     */
+    public List<String> suggest(String prefix, int limit) {
+        List<String> tokens = tokenize(prefix);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        String last = tokens.get(tokens.size() - 1);
+        PriorityQueue<String> top = new PriorityQueue<>(
+                Comparator.comparingInt((String term) -> current.postings.get(term).size()));
+
+        for (int i = firstWithPrefix(current.terms, last), scanned = 0;
+             i < current.terms.length && current.terms[i].startsWith(last) && scanned < MAX_SUGGEST_SCAN;
+             i++, scanned++) {
+            top.offer(current.terms[i]);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<String> suggestions = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            suggestions.add(top.poll());
+        }
+        Collections.reverse(suggestions);
+        return suggestions;
+    }
+
+    // ========== Incremental updates ==========
+
+    /**
+     * (Re)index an approved event once the current transaction commits
+     */
+    public void eventIndexed(Event event) {
+        Change change = new Change(event.getId(), Document.of(event));
+        TransactionCallbacks.afterCommit(() -> submit(change));
+    }
+
+    /**
+     * Adjust an event's approved-seat count once the current transaction commits
+     */
+    public void seatsChanged(Long eventId, int delta) {
+        TransactionCallbacks.afterCommit(() ->
+                approvedCounts.computeIfPresent(eventId, (id, count) -> Math.max(0, count + delta)));
+    }
+
+    /**
+     * Remove an event (rejected, deleted or no longer approved) once the current transaction commits
+     */
+    public void eventRemoved(Long eventId) {
+        Change change = new Change(eventId, null);
+        TransactionCallbacks.afterCommit(() -> submit(change));
+    }
+
+    /**
+     * Rebuild the whole index from approved events in the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+        }
+
+        try {
+            SnapshotBuilder builder = new SnapshotBuilder();
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                List<Document> batch = readOnlyTransaction.execute(status -> eventRepository
+                        .findApprovedAfterId(cursor, PageRequest.of(0, REBUILD_BATCH_SIZE))
+                        .stream()
+                        .map(Document::of)
+                        .toList());
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(document -> {
+                    builder.add(document);
+                    approvedCounts.put(document.eventId(), document.approvedCount());
+                });
+                afterId = batch.get(batch.size() - 1).eventId();
+            }
+
+            synchronized (this) {
+                snapshot = builder.build();
+                apply(pendingChanges);
+                logger.info("Event search index built with {} events and {} terms",
+                        snapshot.docs.size(), snapshot.terms.length);
+                ready = true;
+            }
+        } finally {
+            synchronized (this) {
+                pendingChanges.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void submit(Change change) {
+        queuedChanges.add(change);
+
+        synchronized (this) {
+            // Writers that were waiting here find their changes already applied by the batch before
+            List<Change> batch = new ArrayList<>();
+            for (Change queued; (queued = queuedChanges.poll()) != null; ) {
+                batch.add(queued);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (rebuilding) {
+                pendingChanges.addAll(batch);
+            } else {
+                apply(batch);
+            }
+        }
+    }
+
+    /**
+     * Copy-on-write update of a batch of changes, in order, with one copy of the maps and
+     * one swap; only the posting lists of the touched terms are rebuilt
+     */
+    private void apply(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Snapshot current = snapshot;
+        Map<String, Postings> postings = new HashMap<>(current.postings);
+        Map<Integer, Doc> docs = new HashMap<>(current.docs);
+        Map<Long, Integer> ordinals = new HashMap<>(current.ordinals);
+        int nextOrdinal = current.nextOrdinal;
+        boolean termsChanged = false;
+
+        for (Change change : changes) {
+            Integer oldOrdinal = ordinals.remove(change.eventId());
+            approvedCounts.remove(change.eventId());
+            if (oldOrdinal != null) {
+                for (String term : docs.remove(oldOrdinal).terms()) {
+                    Postings remaining = postings.get(term).without(oldOrdinal);
+                    if (remaining.size() == 0) {
+                        postings.remove(term);
+                        termsChanged = true;
+                    } else {
+                        postings.put(term, remaining);
+                    }
+                }
+            }
+
+            if (change.document() != null) {
+                // New ordinals are always the largest, so appending keeps posting lists sorted
+                int ordinal = nextOrdinal++;
+                Map<String, Integer> weights = weigh(change.document());
+                for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                    Postings existing = postings.get(entry.getKey());
+                    termsChanged |= existing == null;
+                    postings.put(entry.getKey(), existing == null
+                            ? Postings.of(ordinal, entry.getValue())
+                            : existing.with(ordinal, entry.getValue()));
+                }
+                docs.put(ordinal, Doc.of(change.document(), weights.keySet()));
+                ordinals.put(change.eventId(), ordinal);
+                approvedCounts.put(change.eventId(), change.document().approvedCount());
+            }
+        }
+
+        String[] terms = termsChanged ? sortedTerms(postings) : current.terms;
+        snapshot = new Snapshot(postings, terms, docs, ordinals, nextOrdinal);
+    }
+
+    private List<Hit> match(Snapshot current, String text, Long categoryId,
+                            LocalDateTime startDate, LocalDateTime endDate) {
+        List<String> tokens = tokenize(text);
+        if (tokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // Every token must match (as a prefix); scores add up across tokens
+        int[] docs = null;
+        int[] scores = null;
+        for (String token : tokens) {
+            long[] packed = expand(current, token);
+            int[] tokenDocs = new int[packed.length];
+            int[] tokenScores = new int[packed.length];
+            for (int i = 0; i < packed.length; i++) {
+                tokenDocs[i] = (int) (packed[i] >>> 8);
+                tokenScores[i] = (int) (packed[i] & 0xFF);
+            }
+
+            if (docs == null) {
+                docs = tokenDocs;
+                scores = tokenScores;
+            } else {
+                int[][] merged = intersect(docs, scores, tokenDocs, tokenScores);
+                docs = merged[0];
+                scores = merged[1];
+            }
+            if (docs.length == 0) {
+                break;
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int i = 0; i < docs.length; i++) {
+            Doc doc = current.docs.get(docs[i]);
+            if ((categoryId == null || categoryId.equals(doc.categoryId()))
+                    && (startDate == null || !doc.eventDate().isBefore(startDate))
+                    && (endDate == null || !doc.eventDate().isAfter(endDate))) {
+                hits.add(new Hit(doc.eventId(), doc.eventDate(), doc.categoryId(), isFull(doc), scores[i]));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Union of the posting lists of all terms starting with {@code token}, packed as
+     * (ordinal << 8 | score) and sorted by ordinal; an exact match scores double.
+     * Every term is expanded, so no match is lost; see {@link #isSelective}.
+     */
+    private long[] expand(Snapshot current, String token) {
+        int first = firstWithPrefix(current.terms, token);
+        int end = first;
+        int total = 0;
+        while (end < current.terms.length && current.terms[end].startsWith(token)) {
+            total += current.postings.get(current.terms[end++]).size();
+        }
+
+        long[] packed = new long[total];
+        int size = 0;
+        for (int i = first; i < end; i++) {
+            Postings postings = current.postings.get(current.terms[i]);
+            int boost = current.terms[i].length() == token.length() ? 2 : 1;
+            for (int p = 0; p < postings.size(); p++) {
+                packed[size++] = ((long) postings.docs[p] << 8) | (postings.weights[p] * boost);
+            }
+        }
+
+        // Sorted by ordinal, then score: keep the best score per ordinal
+        Arrays.sort(packed, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique > 0 && (packed[unique - 1] >>> 8) == (packed[i] >>> 8)) {
+                packed[unique - 1] = packed[i];
+            } else {
+                packed[unique++] = packed[i];
+            }
+        }
+        return Arrays.copyOf(packed, unique);
+    }
+
+    private boolean isFull(Doc doc) {
+        return doc.maxParticipants() != null
+                && approvedCounts.getOrDefault(doc.eventId(), 0) >= doc.maxParticipants();
+    }
+
+    private static Map<String, Map<String, Long>> facetsOf(List<Hit> hits) {
+        EventFacets facets = new EventFacets();
+        hits.forEach(hit -> facets.add(hit.categoryId(), hit.eventDate(), hit.full()));
+        return facets.toMap();
+    }
+
+    private static int[][] intersect(int[] leftDocs, int[] leftScores, int[] rightDocs, int[] rightScores) {
+        int[] docs = new int[Math.min(leftDocs.length, rightDocs.length)];
+        int[] scores = new int[docs.length];
+        int size = 0;
+
+        for (int l = 0, r = 0; l < leftDocs.length && r < rightDocs.length; ) {
+            if (leftDocs[l] < rightDocs[r]) {
+                l++;
+            } else if (leftDocs[l] > rightDocs[r]) {
+                r++;
+            } else {
+                docs[size] = leftDocs[l];
+                scores[size++] = leftScores[l++] + rightScores[r++];
+            }
+        }
+        return new int[][]{Arrays.copyOf(docs, size), Arrays.copyOf(scores, size)};
+    }
+
+    private static int firstWithPrefix(String[] terms, String prefix) {
+        int index = Arrays.binarySearch(terms, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Highest field weight of each term in the document
+     */
+    private static Map<String, Integer> weigh(Document document) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        addTerms(weights, document.title(), TITLE_WEIGHT);
+        addTerms(weights, document.location(), LOCATION_WEIGHT);
+        addTerms(weights, document.description(), DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                weights.merge(token, weight, Math::max);
+            }
+        }
+    }
+
+    private static String[] sortedTerms(Map<String, Postings> postings) {
+        String[] terms = postings.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        return terms;
+    }
+
+    // ========== Index structures ==========
+
+    /**
+     * A page of matching event IDs, the total number of matches and facet counts over all of them
+     */
+    public record SearchPage(List<Long> eventIds, long total, Map<String, Map<String, Long>> facets) {
+    }
+
+    /**
+     * A matching event with its relevance score
+     */
+    public record Hit(Long eventId, LocalDateTime eventDate, Long categoryId, boolean full, int score) {
+    }
+
+    private record Change(Long eventId, Document document) {
+    }
+
+    /**
+     * The indexed fields of an event
+     */
+    private record Document(Long eventId, String title, String description, String location,
+                            LocalDateTime eventDate, Long categoryId, Integer maxParticipants, int approvedCount) {
+
+        static Document of(Event event) {
+            return new Document(event.getId(), event.getTitle(), event.getDescription(), event.getLocation(),
+                    event.getEventDate(), event.getCategory() != null ? event.getCategory().getId() : null,
+                    event.getMaxParticipants(), event.getApprovedCount());
+        }
+    }
+
+    /**
+     * What the index keeps per document: filter and facet attributes, and its terms (for removal)
+     */
+    private record Doc(Long eventId, LocalDateTime eventDate, Long categoryId, Integer maxParticipants,
+                       String[] terms) {
+
+        static Doc of(Document document, Set<String> terms) {
+            return new Doc(document.eventId(), document.eventDate(), document.categoryId(),
+                    document.maxParticipants(), terms.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Immutable posting list: sorted ordinals with a parallel array of weights
+     */
+    private static final class Postings {
+
+        private final int[] docs;
+        private final byte[] weights;
+
+        private Postings(int[] docs, byte[] weights) {
+            this.docs = docs;
+            this.weights = weights;
+        }
+
+        static Postings of(int ordinal, int weight) {
+            return new Postings(new int[]{ordinal}, new byte[]{(byte) weight});
+        }
+
+        int size() {
+            return docs.length;
+        }
+
+        Postings with(int ordinal, int weight) {
+            int[] newDocs = Arrays.copyOf(docs, docs.length + 1);
+            byte[] newWeights = Arrays.copyOf(weights, weights.length + 1);
+            newDocs[docs.length] = ordinal;
+            newWeights[weights.length] = (byte) weight;
+            return new Postings(newDocs, newWeights);
+        }
+
+        Postings without(int ordinal) {
+            int index = Arrays.binarySearch(docs, ordinal);
+            if (index < 0) {
+                return this;
+            }
+            int[] newDocs = new int[docs.length - 1];
+            byte[] newWeights = new byte[weights.length - 1];
+            System.arraycopy(docs, 0, newDocs, 0, index);
+            System.arraycopy(docs, index + 1, newDocs, index, docs.length - index - 1);
+            System.arraycopy(weights, 0, newWeights, 0, index);
+            System.arraycopy(weights, index + 1, newWeights, index, weights.length - index - 1);
+            return new Postings(newDocs, newWeights);
+        }
+    }
+
+    /**
+     * Everything a query reads, swapped as a whole
+     */
+    private record Snapshot(Map<String, Postings> postings, String[] terms, Map<Integer, Doc> docs,
+                            Map<Long, Integer> ordinals, int nextOrdinal) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), new String[0], Map.of(), Map.of(), 0);
+    }
+
+    /**
+     * Bulk builder for the startup rebuild, with growable posting buffers
+     */
+    private static final class SnapshotBuilder {
+
+        private final Map<String, PostingsBuffer> buffers = new HashMap<>();
+        private final Map<Integer, Doc> docs = new HashMap<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private int nextOrdinal;
+
+        void add(Document document) {
+            int ordinal = nextOrdinal++;
+            Map<String, Integer> weights = weigh(document);
+            weights.forEach((term, weight) ->
+                    buffers.computeIfAbsent(term, t -> new PostingsBuffer()).add(ordinal, weight));
+            docs.put(ordinal, Doc.of(document, weights.keySet()));
+            ordinals.put(document.eventId(), ordinal);
+        }
+
+        Snapshot build() {
+            Map<String, Postings> postings = new HashMap<>(buffers.size() * 2);
+            buffers.forEach((term, buffer) -> postings.put(term, buffer.freeze()));
+            return new Snapshot(postings, sortedTerms(postings), docs, ordinals, nextOrdinal);
+        }
+    }
+
+    private static final class PostingsBuffer {
+
+        private int[] docs = new int[4];
+        private byte[] weights = new byte[4];
+        private int size;
+
+        void add(int ordinal, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = ordinal;
+            weights[size++] = (byte) weight;
+        }
+
+        Postings freeze() {
+            return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(weights, size));
+        }
+    }
+}
@@ -2,17 +2,14 @@ package com.web.volunteer.service;
 
 import com.web.volunteer.dto.request.CreateEventRequest;
 import com.web.volunteer.dto.request.UpdateEventRequest;
-import com.web.volunteer.dto.response.CategoryResponse;
 import com.web.volunteer.dto.response.EventResponse;
 import com.web.volunteer.dto.response.PageResponse;
-import com.web.volunteer.dto.response.UserResponse;
 import com.web.volunteer.entity.Category;
 import com.web.volunteer.entity.Event;
 import com.web.volunteer.entity.User;
 import com.web.volunteer.exception.BadRequestException;
 import com.web.volunteer.exception.ForbiddenException;
 import com.web.volunteer.exception.ResourceNotFoundException;
-import com.web.volunteer.repository.CategoryRepository;
 import com.web.volunteer.repository.EventRegistrationRepository;
 import com.web.volunteer.repository.EventRepository;
 import com.web.volunteer.repository.UserRepository;
@@ -20,6 +17,7 @@ import com.web.volunteer.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +25,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,11 +39,26 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final EventResponseAssembler eventResponseAssembler;
+    private final DashboardCounters dashboardCounters;
+    private final TrendingTracker trendingTracker;
+    private final ActivityTracker activityTracker;
+    private final DashboardCache dashboardCache;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventCache eventCache;
     private final EventRegistrationRepository registrationRepository;
 
+    @Value("${app.search.mode}")
+    private String searchMode;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
+
     /**
-     * Get all events with filters
+     * Get all events with filters.
+     *
+     * The page's ETag is offered to {@code notModified} before the events are
+     * mapped; when it returns true, null is returned and nothing is mapped.
      */
     @Transactional(readOnly = true)
     public PageResponse<EventResponse> getAllEvents(
@@ -50,10 +68,51 @@ public class EventService {
             LocalDateTime endDate,
             String status,
             int page,
-            int size
+            int size,
+            String after,
+            Predicate<String> notModified
     ) {
         logger.info("Fetching events with filters - categoryId: {}, status: {}", categoryId, status);
 
+        PageResponse<Event> rows = findEvents(categoryId, searchTerm, startDate, endDate, status, page, size, after);
+
+        Set<Long> registeredEventIds = eventResponseAssembler.registeredEventIds(
+                rows.getContent(), currentUserIdOrNull());
+        if (notModified.test(EventETag.of(rows, registeredEventIds))) {
+            return null;
+        }
+
+        return withContent(rows, eventResponseAssembler.toResponses(rows.getContent(), registeredEventIds));
+    }
+
+    /**
+     * Find a page of events with filters, unmapped
+     */
+    private PageResponse<Event> findEvents(
+            Long categoryId,
+            String searchTerm,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String status,
+            int page,
+            int size,
+            String after
+    ) {
+        String tsQuery = toPrefixTsQuery(searchTerm);
+        boolean noStatus = status == null || status.isEmpty();
+
+        if (tsQuery != null && noStatus && useSearchIndex(searchTerm)) {
+            return after != null
+                    ? searchIndexAfter(searchTerm, categoryId, startDate, endDate,
+                            PageCursor.pageSize(size, maxPageSize), PageCursor.decode(after))
+                    : searchIndex(searchTerm, categoryId, startDate, endDate, page, size);
+        }
+
+        if (after != null) {
+            return getEventsAfter(categoryId, tsQuery, startDate, endDate, status,
+                    PageCursor.pageSize(size, maxPageSize), PageCursor.decode(after));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("eventDate").ascending());
 
         Page<Event> eventPage;
@@ -61,51 +120,160 @@ public class EventService {
         if (status != null && !status.isEmpty()) {
             Event.EventStatus eventStatus = Event.EventStatus.valueOf(status.toUpperCase());
             eventPage = eventRepository.findByStatus(eventStatus, pageable);
-        } else if (categoryId != null || searchTerm != null || startDate != null || endDate != null) {
-            eventPage = eventRepository.findEventsWithFilters(categoryId, searchTerm, startDate, endDate, pageable);
+        } else if (tsQuery != null) {
+            // Relevance order; the native query sorts itself
+            eventPage = eventRepository.searchEvents(tsQuery, categoryId, startDate, endDate, PageRequest.of(page, size));
+        } else if (categoryId != null || startDate != null || endDate != null) {
+            eventPage = eventRepository.findEventsWithFilters(categoryId, startDate, endDate, pageable);
         } else {
             eventPage = eventRepository.findUpcomingApprovedEvents(LocalDateTime.now(), pageable);
         }
 
-        Long currentUserId = null;
-        try {
-            currentUserId = SecurityUtils.getCurrentUserId();
-        } catch (Exception e) {
-            // User not authenticated, continue without user-specific data
+        return PageResponse.<Event>builder()
+                .content(eventPage.getContent())
+                .pageNumber(eventPage.getNumber())
+                .pageSize(eventPage.getSize())
+                .totalElements(eventPage.getTotalElements())
+                .totalPages(eventPage.getTotalPages())
+                .last(eventPage.isLast())
+                .first(eventPage.isFirst())
+                .facets(noStatus && tsQuery != null ? searchFacets(tsQuery, categoryId, startDate, endDate) : null)
+                .build();
+    }
+
+    /**
+     * Get events after a cursor, ordered by (eventDate, id), without a count query
+     */
+    private PageResponse<Event> getEventsAfter(
+            Long categoryId,
+            String tsQuery,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String status,
+            int size,
+            PageCursor cursor
+    ) {
+        Pageable limit = PageCursor.limit(size);
+
+        List<Event> events;
+        if (status != null && !status.isEmpty()) {
+            Event.EventStatus eventStatus = Event.EventStatus.valueOf(status.toUpperCase());
+            events = cursor == null
+                    ? eventRepository.findByStatusFirstPage(eventStatus, limit)
+                    : eventRepository.findByStatusAfter(eventStatus, cursor.sortValue(), cursor.id(), limit);
+        } else if (tsQuery != null) {
+            events = cursor == null
+                    ? eventRepository.searchEventsFirstPage(tsQuery, categoryId, startDate, endDate, limit)
+                    : eventRepository.searchEventsAfter(
+                            tsQuery, categoryId, startDate, endDate, cursor.sortValue(), cursor.id(), limit);
+        } else if (categoryId != null || startDate != null || endDate != null) {
+            events = cursor == null
+                    ? eventRepository.findEventsWithFiltersFirstPage(categoryId, startDate, endDate, limit)
+                    : eventRepository.findEventsWithFiltersAfter(
+                            categoryId, startDate, endDate, cursor.sortValue(), cursor.id(), limit);
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            events = cursor == null
+                    ? eventRepository.findUpcomingApprovedEventsFirstPage(now, limit)
+                    : eventRepository.findUpcomingApprovedEventsAfter(now, cursor.sortValue(), cursor.id(), limit);
         }
 
-        final Long userId = currentUserId;
-        Page<EventResponse> responsePage = eventPage.map(event -> mapToEventResponse(event, userId));
+        PageResponse<Event> response = PageCursor.toPageResponse(events, size, cursor,
+                event -> new PageCursor(event.getEventDate(), event.getId()),
+                rows -> rows);
 
-        return PageResponse.<EventResponse>builder()
-                .content(responsePage.getContent())
-                .pageNumber(responsePage.getNumber())
-                .pageSize(responsePage.getSize())
-                .totalElements(responsePage.getTotalElements())
-                .totalPages(responsePage.getTotalPages())
-                .last(responsePage.isLast())
-                .first(responsePage.isFirst())
+        // Facets do not change from page to page, so only the first page carries them
+        if ((status == null || status.isEmpty()) && tsQuery != null && cursor == null) {
+            response.setFacets(searchFacets(tsQuery, categoryId, startDate, endDate));
+        }
+        return response;
+    }
+
+    /**
+     * Search the in-memory index, most relevant first
+     */
+    private PageResponse<Event> searchIndex(
+            String searchTerm,
+            Long categoryId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int page,
+            int size
+    ) {
+        EventSearchIndex.SearchPage result = eventSearchIndex.search(
+                searchTerm, categoryId, startDate, endDate, page * size, size);
+        int totalPages = (int) ((result.total() + size - 1) / size);
+
+        return PageResponse.<Event>builder()
+                .content(eventResponseAssembler.findAllInOrder(result.eventIds()))
+                .pageNumber(page)
+                .pageSize(size)
+                .totalElements(result.total())
+                .totalPages(totalPages)
+                .last(page + 1 >= totalPages)
+                .first(page == 0)
+                .facets(result.facets())
                 .build();
     }
 
+    /**
+     * Search the in-memory index after a cursor, ordered by (eventDate, id)
+     */
+    private PageResponse<Event> searchIndexAfter(
+            String searchTerm,
+            Long categoryId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int size,
+            PageCursor cursor
+    ) {
+        List<EventSearchIndex.Hit> hits = eventSearchIndex.searchAfter(searchTerm, categoryId, startDate, endDate,
+                PageCursor.sortValueOf(cursor), PageCursor.idOf(cursor), size + 1);
+        PageResponse<Event> response = PageCursor.toPageResponse(hits, size, cursor,
+                hit -> new PageCursor(hit.eventDate(), hit.eventId()),
+                rows -> eventResponseAssembler.findAllInOrder(
+                        rows.stream().map(EventSearchIndex.Hit::eventId).toList()));
+
+        if (cursor == null) {
+            response.setFacets(eventSearchIndex.facets(searchTerm, categoryId, startDate, endDate));
+        }
+        return response;
+    }
+
+    /**
+     * Autocomplete the last word of a search
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return eventSearchIndex.suggest(prefix, limit);
+    }
+
     /**
      * Get event by ID
+     *
+     * Not transactional, so cache hits and callers waiting on a coalesced load
+     * do not hold a pooled connection; each query runs on its own. Returns null
+     * when {@code notModified} accepts the response's ETag.
      */
-    @Transactional(readOnly = true)
-    public EventResponse getEventById(Long eventId) {
+    public EventResponse getEventById(Long eventId, Predicate<String> notModified) {
         logger.info("Fetching event with ID: {}", eventId);
 
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        EventResponse shared = eventCache.eventDetail(eventId, id -> eventResponseAssembler.toResponse(
+                eventRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id)),
+                null));
 
-        Long currentUserId = null;
-        try {
-            currentUserId = SecurityUtils.getCurrentUserId();
-        } catch (Exception e) {
-            // User not authenticated
-        }
+        // Per-user and time-dependent fields are merged on top of the cached part
+        Long currentUserId = currentUserIdOrNull();
+        boolean isRegistered = currentUserId != null
+                && !registrationRepository.findRegisteredEventIds(currentUserId, List.of(eventId)).isEmpty();
+        boolean beforeDeadline = shared.getRegistrationDeadline() == null
+                || LocalDateTime.now().isBefore(shared.getRegistrationDeadline());
 
-        return mapToEventResponse(event, currentUserId);
+        EventResponse response = shared.toBuilder()
+                .canRegister(shared.getCanRegister() && beforeDeadline)
+                .isRegistered(isRegistered)
+                .build();
+        return notModified.test(EventETag.of(response)) ? null : response;
     }
 
     /**
@@ -132,7 +300,7 @@ public class EventService {
         // Get category if provided
         Category category = null;
         if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
+            category = eventCache.category(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
         }
 
@@ -149,9 +317,11 @@ public class EventService {
                 .build();
 
         event = eventRepository.save(event);
+        dashboardCounters.eventCreated(event.getStatus(), event.getEventDate());
+        dashboardCache.userChanged(userId);
         logger.info("Event created successfully with ID: {}", event.getId());
 
-        return mapToEventResponse(event, userId);
+        return eventResponseAssembler.toResponse(event, userId);
     }
 
     /**
@@ -189,6 +359,7 @@ public class EventService {
             if (request.getEventDate().isBefore(LocalDateTime.now())) {
                 throw new BadRequestException("Event date must be in the future");
             }
+            dashboardCounters.eventDateChanged(event.getStatus(), event.getEventDate(), request.getEventDate());
             event.setEventDate(request.getEventDate());
         }
         if (request.getRegistrationDeadline() != null) {
@@ -198,15 +369,20 @@ public class EventService {
             event.setMaxParticipants(request.getMaxParticipants());
         }
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
+            Category category = eventCache.category(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
             event.setCategory(category);
         }
 
         event = eventRepository.save(event);
+        dashboardCache.eventChanged(eventId, event.getCreator().getId());
+        if (event.getStatus() == Event.EventStatus.APPROVED) {
+            eventSearchIndex.eventIndexed(event);
+        }
+        eventCache.evictEvent(eventId);
         logger.info("Event updated successfully: {}", eventId);
 
-        return mapToEventResponse(event, userId);
+        return eventResponseAssembler.toResponse(event, userId);
     }
 
     /**
@@ -226,12 +402,17 @@ public class EventService {
         }
 
         // Can't delete events with registrations unless admin
-        long registrationCount = registrationRepository.countApprovedRegistrationsByEvent(event);
-        if (registrationCount > 0 && !SecurityUtils.isAdmin()) {
+        if (event.getApprovedCount() > 0 && !SecurityUtils.isAdmin()) {
             throw new BadRequestException("Cannot delete events with registrations. Please contact admin.");
         }
 
         eventRepository.delete(event);
+        dashboardCounters.eventDeleted(event.getStatus(), event.getEventDate());
+        trendingTracker.eventRemoved(eventId);
+        activityTracker.eventRemoved(eventId);
+        dashboardCache.eventChanged(eventId, event.getCreator().getId());
+        eventSearchIndex.eventRemoved(eventId);
+        eventCache.evictEvent(eventId);
         logger.info("Event deleted successfully: {}", eventId);
     }
 
@@ -253,14 +434,18 @@ public class EventService {
             throw new BadRequestException("Event is already approved");
         }
 
+        dashboardCounters.eventStatusChanged(event.getStatus(), Event.EventStatus.APPROVED, event.getEventDate());
         event.setStatus(Event.EventStatus.APPROVED);
         event.setApprovedAt(LocalDateTime.now());
         event.setApprovedBy(admin);
 
         event = eventRepository.save(event);
+        dashboardCache.eventChanged(eventId, event.getCreator().getId());
+        eventSearchIndex.eventIndexed(event);
+        eventCache.evictEvent(eventId);
         logger.info("Event approved successfully: {}", eventId);
 
-        return mapToEventResponse(event, userId);
+        return eventResponseAssembler.toResponse(event, userId);
     }
 
     /**
@@ -274,11 +459,17 @@ public class EventService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
 
+        dashboardCounters.eventStatusChanged(event.getStatus(), Event.EventStatus.REJECTED, event.getEventDate());
+        trendingTracker.eventRemoved(eventId);
+        activityTracker.eventRemoved(eventId);
         event.setStatus(Event.EventStatus.REJECTED);
         event = eventRepository.save(event);
+        dashboardCache.eventChanged(eventId, event.getCreator().getId());
+        eventSearchIndex.eventRemoved(eventId);
+        eventCache.evictEvent(eventId);
 
         logger.info("Event rejected successfully: {}", eventId);
-        return mapToEventResponse(event, userId);
+        return eventResponseAssembler.toResponse(event, userId);
     }
 
     /**
@@ -295,67 +486,68 @@ public class EventService {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Event> eventPage = eventRepository.findByCreator(user, pageable);
 
-        Page<EventResponse> responsePage = eventPage.map(event -> mapToEventResponse(event, userId));
+        List<EventResponse> content = eventResponseAssembler.toResponses(eventPage.getContent(), userId);
 
         return PageResponse.<EventResponse>builder()
-                .content(responsePage.getContent())
-                .pageNumber(responsePage.getNumber())
-                .pageSize(responsePage.getSize())
-                .totalElements(responsePage.getTotalElements())
-                .totalPages(responsePage.getTotalPages())
-                .last(responsePage.isLast())
-                .first(responsePage.isFirst())
+                .content(content)
+                .pageNumber(eventPage.getNumber())
+                .pageSize(eventPage.getSize())
+                .totalElements(eventPage.getTotalElements())
+                .totalPages(eventPage.getTotalPages())
+                .last(eventPage.isLast())
+                .first(eventPage.isFirst())
                 .build();
     }
 
+    // ========== Private Helper Methods ==========
+
     /**
-     * Map Event entity to EventResponse DTO
+     * Category, week, month and capacity counts of all database search matches, in one query
      */
-    private EventResponse mapToEventResponse(Event event, Long currentUserId) {
-        long currentParticipants = registrationRepository.countApprovedRegistrationsByEvent(event);
-
-        boolean isRegistered = false;
-        if (currentUserId != null) {
-            User user = userRepository.findById(currentUserId).orElse(null);
-            if (user != null) {
-                isRegistered = registrationRepository.existsByUserAndEvent(user, event);
-            }
-        }
+    private Map<String, Map<String, Long>> searchFacets(String tsQuery, Long categoryId,
+                                                        LocalDateTime startDate, LocalDateTime endDate) {
+        return EventFacets.fromGroupedRows(
+                eventRepository.searchEventFacets(tsQuery, categoryId, startDate, endDate)).toMap();
+    }
 
-        return EventResponse.builder()
-                .id(event.getId())
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .location(event.getLocation())
-                .eventDate(event.getEventDate())
-                .registrationDeadline(event.getRegistrationDeadline())
-                .maxParticipants(event.getMaxParticipants())
-                .currentParticipants((int) currentParticipants)
-                .status(event.getStatus().name())
-                .category(event.getCategory() != null ? mapToCategoryResponse(event.getCategory()) : null)
-                .creator(mapToUserResponse(event.getCreator()))
-                .createdAt(event.getCreatedAt())
-                .updatedAt(event.getUpdatedAt())
-                .approvedAt(event.getApprovedAt())
-                .canRegister(event.canRegister())
-                .isRegistered(isRegistered)
-                .build();
+    private boolean useSearchIndex(String searchTerm) {
+        // Until the startup rebuild finishes, and for prefixes too broad for the index, use the database
+        return "memory".equalsIgnoreCase(searchMode) && eventSearchIndex.isReady()
+                && eventSearchIndex.isSelective(searchTerm);
     }
 
-    private CategoryResponse mapToCategoryResponse(Category category) {
-        return CategoryResponse.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .description(category.getDescription())
+    private static PageResponse<EventResponse> withContent(PageResponse<Event> page, List<EventResponse> content) {
+        return PageResponse.<EventResponse>builder()
+                .content(content)
+                .pageNumber(page.getPageNumber())
+                .pageSize(page.getPageSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .last(page.isLast())
+                .first(page.isFirst())
+                .nextCursor(page.getNextCursor())
+                .facets(page.getFacets())
                 .build();
     }
 
-    private UserResponse mapToUserResponse(User user) {
-        return UserResponse.builder()
-                .id(user.getId())
-                .fullName(user.getFullName())
-                .email(user.getEmail())
-                .role(user.getRole().name())
-                .build();
+    private Long currentUserIdOrNull() {
+        try {
+            return SecurityUtils.getCurrentUserId();
+        } catch (Exception e) {
+            // User not authenticated, continue without user-specific data
+            return null;
+        }
+    }
+
+    /**
+     * Turn free text into a prefix tsquery ("beach clean" -> "beach:* & clean:*"),
+     * keeping only letters and digits so user input can never break the query syntax
+     */
+    private String toPrefixTsQuery(String searchTerm) {
+        String tsQuery = EventSearchIndex.tokenize(searchTerm).stream()
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+
+        return tsQuery.isEmpty() ? null : tsQuery;
     }
 }
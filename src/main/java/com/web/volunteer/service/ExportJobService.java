@@ -0,0 +1,215 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.response.ExportJobResponse;
+import com.web.volunteer.enums.ExportDataset;
+import com.web.volunteer.enums.ExportFormat;
+import com.web.volunteer.enums.ExportJobStatus;
+import com.web.volunteer.exception.BadRequestException;
+import com.web.volunteer.exception.ResourceNotFoundException;
+import com.web.volunteer.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Background export jobs. Each job spools its output to a temp file on the
+ * capacity-limited export job executor; clients poll the job status and
+ * download the file once it is completed. Finished jobs and their files
+ * are removed after the retention period.
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportJobService.class);
+
+    private final ExportService exportService;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.export.jobs.spool-dir}")
+    private String spoolDir;
+
+    @Value("${app.export.jobs.retention}")
+    private long retentionMillis;
+
+    public ExportJobService(ExportService exportService,
+                            @Qualifier("exportJobExecutor") ThreadPoolTaskExecutor exportJobExecutor) {
+        this.exportService = exportService;
+        this.executor = exportJobExecutor;
+    }
+
+    @PostConstruct
+    void createSpoolDirectory() throws IOException {
+        Files.createDirectories(Paths.get(spoolDir));
+    }
+
+    /**
+     * Create an export job and queue it for execution
+     */
+    public ExportJobResponse submitJob(ExportDataset dataset, ExportFormat format, boolean gzip) {
+        String jobId = UUID.randomUUID().toString();
+        Path file = Paths.get(spoolDir, jobId + fileExtension(format, gzip));
+        ExportJob job = new ExportJob(jobId, dataset, format, gzip, file);
+
+        jobs.put(jobId, job);
+        try {
+            executor.execute(() -> runJob(job));
+        } catch (TaskRejectedException ex) {
+            jobs.remove(jobId);
+            throw new TooManyRequestsException("Too many export jobs are queued. Please try again later.");
+        }
+
+        logger.info("Export job {} queued: {} as {}", jobId, dataset, format);
+        return mapToResponse(job);
+    }
+
+    /**
+     * Get export job status
+     */
+    public ExportJobResponse getJob(String jobId) {
+        return mapToResponse(findJob(jobId));
+    }
+
+    /**
+     * Get the spooled file of a completed export job
+     */
+    public Path getJobFile(String jobId) {
+        ExportJob job = findJob(jobId);
+        if (job.status != ExportJobStatus.COMPLETED) {
+            throw new BadRequestException("Export job is not completed (status: " + job.status + ")");
+        }
+        return job.file;
+    }
+
+    /**
+     * Download file name for a job
+     */
+    public String getDownloadFilename(String jobId) {
+        ExportJob job = findJob(jobId);
+        return job.dataset.name().toLowerCase() + fileExtension(job.format, job.gzip);
+    }
+
+    /**
+     * Remove finished jobs older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.export.jobs.cleanup-interval}")
+    public void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000);
+        jobs.values().removeIf(job -> {
+            boolean expired = job.finishedAt != null && job.finishedAt.isBefore(cutoff);
+            if (expired) {
+                deleteFile(job);
+                logger.info("Export job {} expired and was removed", job.id);
+            }
+            return expired;
+        });
+    }
+
+    @PreDestroy
+    void deleteSpooledFiles() {
+        jobs.values().forEach(this::deleteFile);
+        jobs.clear();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void runJob(ExportJob job) {
+        job.status = ExportJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(job.file))) {
+            job.rowCount = exportService.export(job.dataset, job.format, null, job.gzip, out);
+            out.flush();
+            job.fileSize = Files.size(job.file);
+            job.finishedAt = LocalDateTime.now();
+            job.status = ExportJobStatus.COMPLETED;
+            logger.info("Export job {} completed: {} rows, {} bytes", job.id, job.rowCount, job.fileSize);
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Export job {} failed", job.id, ex);
+            deleteFile(job);
+            job.errorMessage = ex.getMessage();
+            job.finishedAt = LocalDateTime.now();
+            job.status = ExportJobStatus.FAILED;
+        }
+    }
+
+    private ExportJob findJob(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export job", "id", jobId);
+        }
+        return job;
+    }
+
+    private void deleteFile(ExportJob job) {
+        try {
+            Files.deleteIfExists(job.file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete export file {}", job.file, ex);
+        }
+    }
+
+    private String fileExtension(ExportFormat format, boolean gzip) {
+        String extension = format == ExportFormat.CSV ? ".csv" : ".json";
+        return gzip ? extension + ".gz" : extension;
+    }
+
+    private ExportJobResponse mapToResponse(ExportJob job) {
+        return ExportJobResponse.builder()
+                .id(job.id)
+                .dataset(job.dataset.name())
+                .format(job.format.name())
+                .gzip(job.gzip)
+                .status(job.status.name())
+                .rowCount(job.rowCount)
+                .fileSize(job.fileSize)
+                .errorMessage(job.errorMessage)
+                .createdAt(job.createdAt)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .expiresAt(job.finishedAt != null ? job.finishedAt.plusNanos(retentionMillis * 1_000_000) : null)
+                .build();
+    }
+
+    private static class ExportJob {
+        private final String id;
+        private final ExportDataset dataset;
+        private final ExportFormat format;
+        private final boolean gzip;
+        private final Path file;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+        private volatile Long rowCount;
+        private volatile Long fileSize;
+        private volatile String errorMessage;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private ExportJob(String id, ExportDataset dataset, ExportFormat format, boolean gzip, Path file) {
+            this.id = id;
+            this.dataset = dataset;
+            this.format = format;
+            this.gzip = gzip;
+            this.file = file;
+        }
+    }
+}
@@ -1,148 +1,102 @@
 package com.web.volunteer.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.web.volunteer.dto.export.EventExportRow;
+import com.web.volunteer.dto.export.UserExportRow;
 import com.web.volunteer.dto.response.EventResponse;
 import com.web.volunteer.dto.response.UserResponse;
-import com.web.volunteer.entity.Event;
-import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.ExportDataset;
+import com.web.volunteer.enums.ExportFormat;
 import com.web.volunteer.repository.EventRepository;
 import com.web.volunteer.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.OutputStream;
 
+/**
+ * Admin data exports. Rows are read in keyset ID chunks by
+ * ChunkedExportEngine and written to the response in ID order, so an
+ * interrupted download can be resumed from the last ID it received.
+ */
 @Service
-@RequiredArgsConstructor
 public class ExportService {
 
-    private static final Logger logger = LoggerFactory.getLogger(ExportService.class);
-
-    private final EventRepository eventRepository;
-    private final UserRepository userRepository;
-    private final ObjectMapper objectMapper;
-
-    /**
-     * Export events to CSV
-     */
-    @Transactional(readOnly = true)
-    public String exportEventsToCSV() throws IOException {
-        logger.info("Exporting events to CSV");
-
-        List<Event> events = eventRepository.findAll();
-
-        StringWriter writer = new StringWriter();
-        CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT
-                .withHeader("ID", "Title", "Description", "Location", "Event Date",
-                        "Status", "Creator Email", "Max Participants", "Created At"));
-
-        for (Event event : events) {
-            csvPrinter.printRecord(
-                    event.getId(),
-                    event.getTitle(),
-                    event.getDescription(),
-                    event.getLocation(),
-                    event.getEventDate(),
-                    event.getStatus(),
-                    event.getCreator().getEmail(),
-                    event.getMaxParticipants(),
-                    event.getCreatedAt()
-            );
-        }
-
-        csvPrinter.flush();
-        logger.info("Exported {} events to CSV", events.size());
-        return writer.toString();
+    private final ChunkedExportEngine exportEngine;
+    private final ExportSource<EventExportRow> eventSource;
+    private final ExportSource<UserExportRow> userSource;
+
+    public ExportService(ChunkedExportEngine exportEngine,
+                         EventRepository eventRepository,
+                         UserRepository userRepository) {
+        this.exportEngine = exportEngine;
+
+        this.eventSource = new ExportSource<>(
+                "events",
+                eventRepository::findExportChunkUpperBound,
+                eventRepository::findExportRowsInRange,
+                new String[]{"ID", "Title", "Description", "Location", "Event Date",
+                        "Status", "Creator Email", "Max Participants", "Created At"},
+                event -> new Object[]{
+                        event.getId(),
+                        event.getTitle(),
+                        event.getDescription(),
+                        event.getLocation(),
+                        event.getEventDate(),
+                        event.getStatus(),
+                        event.getCreatorEmail(),
+                        event.getMaxParticipants(),
+                        event.getCreatedAt()
+                },
+                this::mapToEventResponse);
+
+        this.userSource = new ExportSource<>(
+                "users",
+                userRepository::findExportChunkUpperBound,
+                userRepository::findExportRowsInRange,
+                new String[]{"ID", "Full Name", "Email", "Phone", "Role",
+                        "Active", "Locked", "Created At"},
+                user -> new Object[]{
+                        user.getId(),
+                        user.getFullName(),
+                        user.getEmail(),
+                        user.getPhoneNumber(),
+                        user.getRole(),
+                        user.isActive(),
+                        user.isLocked(),
+                        user.getCreatedAt()
+                },
+                this::mapToUserResponse);
     }
 
     /**
-     * Export events to JSON
+     * Export a dataset
      */
-    @Transactional(readOnly = true)
-    public String exportEventsToJSON() throws IOException {
-        logger.info("Exporting events to JSON");
-
-        List<Event> events = eventRepository.findAll();
-        List<EventResponse> eventResponses = events.stream()
-                .map(this::mapToEventResponse)
-                .collect(Collectors.toList());
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        String json = mapper.writeValueAsString(eventResponses);
-        logger.info("Exported {} events to JSON", events.size());
-        return json;
+    public long export(ExportDataset dataset, ExportFormat format, Long resumeAfterId, boolean gzip, OutputStream out)
+            throws IOException {
+        return switch (dataset) {
+            case EVENTS -> exportEvents(format, resumeAfterId, gzip, out);
+            case USERS -> exportUsers(format, resumeAfterId, gzip, out);
+        };
     }
 
     /**
-     * Export users to CSV
+     * Export events
      */
-    @Transactional(readOnly = true)
-    public String exportUsersToCSV() throws IOException {
-        logger.info("Exporting users to CSV");
-
-        List<User> users = userRepository.findAll();
-
-        StringWriter writer = new StringWriter();
-        CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT
-                .withHeader("ID", "Full Name", "Email", "Phone", "Role",
-                        "Active", "Locked", "Created At"));
-
-        for (User user : users) {
-            csvPrinter.printRecord(
-                    user.getId(),
-                    user.getFullName(),
-                    user.getEmail(),
-                    user.getPhoneNumber(),
-                    user.getRole(),
-                    user.isActive(),
-                    user.isLocked(),
-                    user.getCreatedAt()
-            );
-        }
-
-        csvPrinter.flush();
-        logger.info("Exported {} users to CSV", users.size());
-        return writer.toString();
+    public long exportEvents(ExportFormat format, Long resumeAfterId, boolean gzip, OutputStream out)
+            throws IOException {
+        return exportEngine.export(eventSource, format, resumeAfterId, gzip, out);
     }
 
     /**
-     * Export users to JSON
+     * Export users
      */
-    @Transactional(readOnly = true)
-    public String exportUsersToJSON() throws IOException {
-        logger.info("Exporting users to JSON");
-
-        List<User> users = userRepository.findAll();
-        List<UserResponse> userResponses = users.stream()
-                .map(this::mapToUserResponse)
-                .collect(Collectors.toList());
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.enable(SerializationFeature.INDENT_OUTPUT);
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        String json = mapper.writeValueAsString(userResponses);
-        logger.info("Exported {} users to JSON", users.size());
-        return json;
+    public long exportUsers(ExportFormat format, Long resumeAfterId, boolean gzip, OutputStream out)
+            throws IOException {
+        return exportEngine.export(userSource, format, resumeAfterId, gzip, out);
     }
 
     // ========== Private Helper Methods ==========
 
-    private EventResponse mapToEventResponse(Event event) {
+    private EventResponse mapToEventResponse(EventExportRow event) {
         return EventResponse.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -157,7 +111,7 @@ public class ExportService {
                 .build();
     }
 
-    private UserResponse mapToUserResponse(User user) {
+    private UserResponse mapToUserResponse(UserExportRow user) {
         return UserResponse.builder()
                 .id(user.getId())
                 .fullName(user.getFullName())
@@ -170,4 +124,4 @@ public class ExportService {
                 .updatedAt(user.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+}
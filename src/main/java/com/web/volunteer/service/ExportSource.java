@@ -0,0 +1,34 @@
+package com.web.volunteer.service;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Describes one exportable dataset for ChunkedExportEngine: how to find
+ * keyset chunk boundaries, how to load one ID range, and how to render a row.
+ */
+public record ExportSource<T>(
+        String name,
+        BoundaryQuery boundaryQuery,
+        RangeQuery<T> rangeQuery,
+        String[] csvHeader,
+        Function<T, Object[]> csvRecord,
+        Function<T, Object> jsonValue
+) {
+
+    /**
+     * Return the ID found {@code offset} rows after {@code afterId}, or null if there are fewer rows left
+     */
+    @FunctionalInterface
+    public interface BoundaryQuery {
+        Long findUpperBound(long afterId, int offset);
+    }
+
+    /**
+     * Load the rows with {@code afterId < id <= upToId}, ordered by ID
+     */
+    @FunctionalInterface
+    public interface RangeQuery<T> {
+        List<T> findRange(long afterId, long upToId);
+    }
+}
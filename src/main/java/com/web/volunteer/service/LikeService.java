@@ -0,0 +1,86 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.entity.Comment;
+import com.web.volunteer.entity.Like;
+import com.web.volunteer.entity.Post;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.exception.BadRequestException;
+import com.web.volunteer.exception.ResourceNotFoundException;
+import com.web.volunteer.repository.CommentRepository;
+import com.web.volunteer.repository.LikeRepository;
+import com.web.volunteer.repository.PostRepository;
+import com.web.volunteer.repository.UserRepository;
+import com.web.volunteer.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeService.class);
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ActivityTracker activityTracker;
+
+    /**
+     * Like a post
+     */
+    @Transactional
+    public void likePost(Long postId) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        logger.info("User {} liking post {}", userId, postId);
+
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "id", postId));
+        User user = currentUser(userId);
+        if (likeRepository.existsByUserAndPost(user, post)) {
+            throw new BadRequestException("You have already liked this post");
+        }
+
+        likeRepository.save(Like.builder()
+                .user(user)
+                .post(post)
+                .build());
+
+        // Only the proxy id is read, so the event is not loaded
+        activityTracker.liked(post.getEvent().getId());
+    }
+
+    /**
+     * Like a comment
+     */
+    @Transactional
+    public void likeComment(Long commentId) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        logger.info("User {} liking comment {}", userId, commentId);
+
+        Long eventId = commentRepository.findEventIdById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", commentId));
+        Comment comment = commentRepository.getReferenceById(commentId);
+        User user = currentUser(userId);
+        if (likeRepository.existsByUserAndComment(user, comment)) {
+            throw new BadRequestException("You have already liked this comment");
+        }
+
+        likeRepository.save(Like.builder()
+                .user(user)
+                .comment(comment)
+                .build());
+
+        activityTracker.liked(eventId);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private User currentUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    }
+}
@@ -0,0 +1,92 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.response.PageResponse;
+import com.web.volunteer.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset pagination cursor: the sort timestamp and ID of the last
+ * row of the previous page. Listings in cursor mode seek past this
+ * position instead of using OFFSET, and skip the count query.
+ */
+public record PageCursor(LocalDateTime sortValue, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Decode an "after" token; an empty token means the first page
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortValue.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LocalDateTime sortValueOf(PageCursor cursor) {
+        return cursor != null ? cursor.sortValue : null;
+    }
+
+    public static Long idOf(PageCursor cursor) {
+        return cursor != null ? cursor.id : null;
+    }
+
+    /**
+     * Validate a requested page size and cap it at {@code maxPageSize}
+     */
+    public static int pageSize(int size, int maxPageSize) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Fetch one row more than the page size to detect whether another page follows
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    /**
+     * Build a cursor-mode page from the rows of a {@link #limit(int)} query.
+     * Totals are not computed in cursor mode and are reported as -1.
+     */
+    public static <E, T> PageResponse<T> toPageResponse(List<E> rows, int size, PageCursor after,
+                                                       Function<E, PageCursor> cursorOf,
+                                                       Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return PageResponse.<T>builder()
+                .content(mapper.apply(pageRows))
+                .pageNumber(0)
+                .pageSize(size)
+                .totalElements(-1)
+                .totalPages(-1)
+                .first(after == null)
+                .last(!hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(pageRows.get(size - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.dto.request.CreatePostRequest;
+import com.web.volunteer.dto.response.PostResponse;
+import com.web.volunteer.dto.response.UserResponse;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.Post;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.exception.BadRequestException;
+import com.web.volunteer.exception.ResourceNotFoundException;
+import com.web.volunteer.repository.EventRepository;
+import com.web.volunteer.repository.PostRepository;
+import com.web.volunteer.repository.UserRepository;
+import com.web.volunteer.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostService.class);
+
+    private final PostRepository postRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final ActivityTracker activityTracker;
+
+    /**
+     * Create a post on an approved event
+     */
+    @Transactional
+    public PostResponse createPost(Long eventId, CreatePostRequest request) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        logger.info("User {} posting on event {}", userId, eventId);
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        if (event.getStatus() != Event.EventStatus.APPROVED) {
+            throw new BadRequestException("Posts can only be added to approved events");
+        }
+
+        User author = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        Post post = postRepository.save(Post.builder()
+                .content(request.getContent())
+                .event(event)
+                .author(author)
+                .build());
+
+        activityTracker.postCreated(eventId);
+
+        return mapToPostResponse(post);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private PostResponse mapToPostResponse(Post post) {
+        return PostResponse.builder()
+                .id(post.getId())
+                .content(post.getContent())
+                .author(mapToUserResponse(post.getAuthor()))
+                .eventId(post.getEvent().getId())
+                .likeCount(0)
+                .commentCount(0)
+                .isLiked(false)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .recentComments(List.of())
+                .build();
+    }
+
+    private UserResponse mapToUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .role(user.getRole().name())
+                .build();
+    }
+}
@@ -16,11 +16,14 @@ import com.web.volunteer.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +34,13 @@ public class RegistrationService {
     private final EventRegistrationRepository registrationRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final TrendingTracker trendingTracker;
+    private final DashboardCache dashboardCache;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventCache eventCache;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
 
     /**
      * Register for an event
@@ -63,7 +73,15 @@ public class RegistrationService {
                 .completed(false)
                 .build();
 
-        registration = registrationRepository.save(registration);
+        try {
+            registration = registrationRepository.save(registration);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request registered first (unique user/event constraint)
+            throw new BadRequestException("You are already registered for this event");
+        }
+        trendingTracker.registrationCreated(eventId, event.getEventDate());
+        dashboardCache.userChanged(userId);
+        dashboardCache.userChanged(event.getCreator().getId());
         logger.info("User {} successfully registered for event {}", userId, eventId);
 
         return mapToRegistrationResponse(registration);
@@ -96,7 +114,19 @@ public class RegistrationService {
             throw new BadRequestException("Cannot unregister from completed event");
         }
 
-        registrationRepository.delete(registration);
+        // Delete only if nobody changed the status since it was read, so the counter stays exact
+        if (registrationRepository.deleteIfStatus(registration.getId(), registration.getStatus()) == 0) {
+            throw new BadRequestException("Registration was modified by another request. Please retry.");
+        }
+
+        if (registration.getStatus() == EventRegistration.RegistrationStatus.APPROVED) {
+            eventRepository.decrementApprovedCount(eventId);
+            eventSearchIndex.seatsChanged(eventId, -1);
+            eventCache.evictEvent(eventId);
+        }
+        dashboardCache.userChanged(userId);
+        dashboardCache.eventChanged(eventId, event.getCreator().getId());
+
         logger.info("User {} successfully unregistered from event {}", userId, eventId);
     }
 
@@ -117,6 +147,27 @@ public class RegistrationService {
         return buildPageResponse(responsePage);
     }
 
+    /**
+     * Get my registrations after a cursor, newest first, without a count query
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<RegistrationResponse> getMyRegistrations(String after, int size) {
+        Long userId = SecurityUtils.getCurrentUserId();
+        logger.info("Fetching registrations for user {} by cursor", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+        int pageSize = PageCursor.pageSize(size, maxPageSize);
+        PageCursor cursor = PageCursor.decode(after);
+        List<EventRegistration> registrations = cursor == null
+                ? registrationRepository.findByUserFirstPage(user, PageCursor.limit(pageSize))
+                : registrationRepository.findByUserAfter(
+                        user, cursor.sortValue(), cursor.id(), PageCursor.limit(pageSize));
+
+        return buildCursorPageResponse(registrations, pageSize, cursor);
+    }
+
     /**
      * Get registrations for an event (EVENT_MANAGER/ADMIN only)
      */
@@ -149,6 +200,37 @@ public class RegistrationService {
         return buildPageResponse(responsePage);
     }
 
+    /**
+     * Get registrations for an event after a cursor, newest first (EVENT_MANAGER/ADMIN only)
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<RegistrationResponse> getEventRegistrations(
+            Long eventId,
+            EventRegistration.RegistrationStatus status,
+            String after,
+            int size
+    ) {
+        logger.info("Fetching registrations for event {} by cursor", eventId);
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+
+        // Check if user has permission to view registrations
+        Long userId = SecurityUtils.getCurrentUserId();
+        if (!SecurityUtils.isAdmin() && !event.getCreator().getId().equals(userId)) {
+            throw new ForbiddenException("You don't have permission to view registrations for this event");
+        }
+
+        int pageSize = PageCursor.pageSize(size, maxPageSize);
+        PageCursor cursor = PageCursor.decode(after);
+        List<EventRegistration> registrations = cursor == null
+                ? registrationRepository.findByEventFirstPage(event, status, PageCursor.limit(pageSize))
+                : registrationRepository.findByEventAfter(
+                        event, status, cursor.sortValue(), cursor.id(), PageCursor.limit(pageSize));
+
+        return buildCursorPageResponse(registrations, pageSize, cursor);
+    }
+
     /**
      * Approve registration (EVENT_MANAGER/ADMIN only)
      */
@@ -166,17 +248,17 @@ public class RegistrationService {
             throw new BadRequestException("Registration is already approved");
         }
 
-        // Check if event is full
-        Event event = registration.getEvent();
-        if (event.getMaxParticipants() != null) {
-            long approvedCount = registrationRepository.countApprovedRegistrationsByEvent(event);
-            if (approvedCount >= event.getMaxParticipants()) {
-                throw new BadRequestException("Event has reached maximum participants");
-            }
-        }
+        Long eventId = registration.getEvent().getId();
+        registration = transitionStatus(registration, EventRegistration.RegistrationStatus.APPROVED);
 
-        registration.setStatus(EventRegistration.RegistrationStatus.APPROVED);
-        registration = registrationRepository.save(registration);
+        // Reserve a seat atomically; throwing here rolls back the status change as well
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            throw new BadRequestException("Event has reached maximum participants");
+        }
+        eventSearchIndex.seatsChanged(eventId, 1);
+        eventCache.evictEvent(eventId);
+        dashboardCache.userChanged(registration.getUser().getId());
+        dashboardCache.eventChanged(eventId, registration.getEvent().getCreator().getId());
 
         logger.info("Registration {} approved successfully", registrationId);
         return mapToRegistrationResponse(registration);
@@ -195,8 +277,17 @@ public class RegistrationService {
         // Check permissions
         validateEventManagementPermission(registration.getEvent());
 
-        registration.setStatus(EventRegistration.RegistrationStatus.REJECTED);
-        registration = registrationRepository.save(registration);
+        boolean wasApproved = registration.getStatus() == EventRegistration.RegistrationStatus.APPROVED;
+
+        registration = transitionStatus(registration, EventRegistration.RegistrationStatus.REJECTED);
+
+        if (wasApproved) {
+            eventRepository.decrementApprovedCount(registration.getEvent().getId());
+            eventSearchIndex.seatsChanged(registration.getEvent().getId(), -1);
+            eventCache.evictEvent(registration.getEvent().getId());
+        }
+        dashboardCache.userChanged(registration.getUser().getId());
+        dashboardCache.eventChanged(registration.getEvent().getId(), registration.getEvent().getCreator().getId());
 
         logger.info("Registration {} rejected", registrationId);
         return mapToRegistrationResponse(registration);
@@ -226,6 +317,7 @@ public class RegistrationService {
         registration.setCompleted(true);
         registration.setCompletedAt(LocalDateTime.now());
         registration = registrationRepository.save(registration);
+        dashboardCache.userChanged(registration.getUser().getId());
 
         logger.info("Registration {} marked as completed", registrationId);
         return mapToRegistrationResponse(registration);
@@ -270,12 +362,28 @@ public class RegistrationService {
         }
 
         // Check max participants
-        if (event.getMaxParticipants() != null) {
-            long approvedCount = registrationRepository.countApprovedRegistrationsByEvent(event);
-            if (approvedCount >= event.getMaxParticipants()) {
-                throw new BadRequestException("Event has reached maximum participants");
-            }
+        if (event.getMaxParticipants() != null && event.getApprovedCount() >= event.getMaxParticipants()) {
+            throw new BadRequestException("Event has reached maximum participants");
+        }
+    }
+
+    /**
+     * Move a registration from the status it was read with to a new status.
+     * The compare-and-set update matches nothing if a concurrent request changed
+     * the status first, so each transition is applied (and counted) exactly once.
+     */
+    private EventRegistration transitionStatus(EventRegistration registration,
+                                               EventRegistration.RegistrationStatus newStatus) {
+        Long registrationId = registration.getId();
+
+        int updated = registrationRepository.updateStatusIfCurrent(
+                registrationId, registration.getStatus(), newStatus, LocalDateTime.now());
+        if (updated == 0) {
+            throw new BadRequestException("Registration was modified by another request. Please retry.");
         }
+
+        return registrationRepository.findById(registrationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Registration", "id", registrationId));
     }
 
     /**
@@ -327,6 +435,13 @@ public class RegistrationService {
                 .build();
     }
 
+    private PageResponse<RegistrationResponse> buildCursorPageResponse(
+            List<EventRegistration> registrations, int size, PageCursor cursor) {
+        return PageCursor.toPageResponse(registrations, size, cursor,
+                registration -> new PageCursor(registration.getRegisteredAt(), registration.getId()),
+                rows -> rows.stream().map(this::mapToRegistrationResponse).toList());
+    }
+
     private <T> PageResponse<T> buildPageResponse(Page<T> page) {
         return PageResponse.<T>builder()
                 .content(page.getContent())
@@ -0,0 +1,169 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.repository.EventRegistrationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trending ranking by registration velocity.
+ *
+ * Each event with recent sign-ups keeps hourly registration counts for the
+ * last 7 days in a ring buffer. Its score is the count of every bucket
+ * weighted by 2^(-age / half-life), so recent growth outranks an old burst.
+ * The top K event IDs are re-ranked on a short schedule and served from an
+ * immutable snapshot.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingTracker.class);
+
+    private static final int WINDOW_HOURS = 7 * 24;
+
+    private final EventRegistrationRepository registrationRepository;
+    private final Map<Long, EventWindow> windows = new ConcurrentHashMap<>();
+    private volatile List<Long> ranking = List.of();
+
+    @Value("${app.trending.top-k}")
+    private int topK;
+
+    @Value("${app.trending.half-life-hours}")
+    private double halfLifeHours;
+
+    public TrendingTracker(EventRegistrationRepository registrationRepository) {
+        this.registrationRepository = registrationRepository;
+    }
+
+    /**
+     * IDs of the top trending events, best first
+     */
+    public List<Long> topEventIds(int limit) {
+        List<Long> snapshot = ranking;
+        return snapshot.subList(0, Math.min(Math.max(limit, 0), snapshot.size()));
+    }
+
+    /**
+     * Count a new registration once the current transaction commits
+     */
+    public void registrationCreated(Long eventId, LocalDateTime eventDate) {
+        TransactionCallbacks.afterCommit(() ->
+                windows.computeIfAbsent(eventId, id -> new EventWindow(eventDate))
+                        .add(hourOf(LocalDateTime.now())));
+    }
+
+    /**
+     * Drop an event that can no longer trend (deleted or rejected)
+     */
+    public void eventRemoved(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> {
+            windows.remove(eventId);
+            refreshRanking();
+        });
+    }
+
+    /**
+     * Seed the windows from the last 7 days of registrations
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = registrationRepository.findRecentRegistrationTimes(
+                now.minusHours(WINDOW_HOURS), now);
+
+        for (Object[] row : rows) {
+            windows.computeIfAbsent((Long) row[0], id -> new EventWindow((LocalDateTime) row[1]))
+                    .add(hourOf((LocalDateTime) row[2]));
+        }
+        refreshRanking();
+        logger.info("Trending tracker seeded with {} registrations across {} events", rows.size(), windows.size());
+    }
+
+    /**
+     * Recompute the top K ranking and drop events that left the window
+     */
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval}", initialDelayString = "${app.trending.refresh-interval}")
+    public void refreshRanking() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowHour = hourOf(now);
+
+        PriorityQueue<Scored> top = new PriorityQueue<>(Comparator.comparingDouble(Scored::score));
+        windows.entrySet().removeIf(entry -> {
+            EventWindow window = entry.getValue();
+            if (window.eventDate.isBefore(now)) {
+                return true;
+            }
+            double score = window.score(nowHour, halfLifeHours);
+            if (score == 0) {
+                return true;
+            }
+            top.offer(new Scored(entry.getKey(), score));
+            if (top.size() > topK) {
+                top.poll();
+            }
+            return false;
+        });
+
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().eventId());
+        }
+        ranking = List.copyOf(ids.reversed());
+    }
+
+    private static long hourOf(LocalDateTime time) {
+        Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.truncatedTo(ChronoUnit.HOURS).getEpochSecond() / 3600;
+    }
+
+    private record Scored(Long eventId, double score) {
+    }
+
+    /**
+     * Hourly ring buffer of registration counts for one event
+     */
+    private static final class EventWindow {
+
+        private final LocalDateTime eventDate;
+        private final int[] counts = new int[WINDOW_HOURS];
+        private final long[] hours = new long[WINDOW_HOURS];
+
+        private EventWindow(LocalDateTime eventDate) {
+            this.eventDate = eventDate;
+        }
+
+        synchronized void add(long hour) {
+            int slot = (int) (hour % WINDOW_HOURS);
+            if (hours[slot] != hour) {
+                hours[slot] = hour;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        synchronized double score(long nowHour, double halfLifeHours) {
+            double score = 0;
+            for (int slot = 0; slot < WINDOW_HOURS; slot++) {
+                long age = nowHour - hours[slot];
+                if (counts[slot] > 0 && age >= 0 && age < WINDOW_HOURS) {
+                    score += counts[slot] * Math.pow(0.5, age / halfLifeHours);
+                }
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+-- Baseline schema, matching what Hibernate generated for the existing entities.
+-- Every statement is idempotent so it also applies cleanly to databases that
+-- were created by ddl-auto before migrations were introduced.
+
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name    VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL UNIQUE,
+    password     VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    role         VARCHAR(255) NOT NULL,
+    active       BOOLEAN      NOT NULL,
+    locked       BOOLEAN      NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255),
+    active      BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS events (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title                 VARCHAR(255) NOT NULL,
+    description           TEXT,
+    location              VARCHAR(255) NOT NULL,
+    category_id           BIGINT REFERENCES categories (id),
+    event_date            TIMESTAMP(6) NOT NULL,
+    registration_deadline TIMESTAMP(6),
+    max_participants      INTEGER,
+    approved_count        INTEGER      NOT NULL DEFAULT 0,
+    status                VARCHAR(255) NOT NULL,
+    creator_id            BIGINT       NOT NULL REFERENCES users (id),
+    approved_at           TIMESTAMP(6),
+    approved_by           BIGINT REFERENCES users (id),
+    created_at            TIMESTAMP(6) NOT NULL,
+    updated_at            TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS event_registrations (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id      BIGINT       NOT NULL REFERENCES events (id),
+    user_id       BIGINT       NOT NULL REFERENCES users (id),
+    status        VARCHAR(255) NOT NULL,
+    notes         TEXT,
+    registered_at TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    completed     BOOLEAN      NOT NULL,
+    completed_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS posts (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    TEXT         NOT NULL,
+    event_id   BIGINT       NOT NULL REFERENCES events (id),
+    author_id  BIGINT       NOT NULL REFERENCES users (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    TEXT         NOT NULL,
+    post_id    BIGINT       NOT NULL REFERENCES posts (id),
+    author_id  BIGINT       NOT NULL REFERENCES users (id),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS likes (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT NOT NULL REFERENCES users (id),
+    post_id    BIGINT REFERENCES posts (id),
+    comment_id BIGINT REFERENCES comments (id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id          INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token       VARCHAR(255) NOT NULL UNIQUE,
+    user_id     BIGINT       NOT NULL REFERENCES users (id),
+    expiry_date TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    revoked     BOOLEAN      NOT NULL
+);
@@ -0,0 +1,15 @@
+-- Full-text search over events. The tsvector is a stored generated column, so
+-- PostgreSQL keeps it in sync on every insert and update; the GIN index serves
+-- both whole-word and prefix (type-ahead) queries.
+-- The 'simple' configuration lowercases without language-specific stemming,
+-- which keeps prefix matching predictable for any language.
+
+ALTER TABLE events
+    ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(location, '')), 'B') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_events_search_vector ON events USING GIN (search_vector);
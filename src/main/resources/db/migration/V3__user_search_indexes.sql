@@ -0,0 +1,11 @@
+-- Admin user search: substring match on names (trigram GIN index) and
+-- prefix match on names, emails and phone numbers (text_pattern_ops B-tree
+-- indexes, which serve LIKE 'prefix%' regardless of the database collation).
+-- pg_trgm is a trusted extension, so the database owner can create it.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_full_name_trgm ON users USING GIN (lower(full_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_full_name_prefix ON users (lower(full_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users (lower(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_phone_number_prefix ON users (phone_number text_pattern_ops);
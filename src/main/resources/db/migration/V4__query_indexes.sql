@@ -0,0 +1,96 @@
+-- Indexes matched to the repository queries. PostgreSQL only indexes primary
+-- keys and unique columns on its own, so every foreign key lookup, filter and
+-- ORDER BY below used to be a sequential scan.
+
+-- ========== events ==========
+
+-- Listings by status ordered by date, incl. keyset pages on (event_date, id):
+-- findUpcomingApprovedEvents[After], findByStatus[After], countByStatus
+CREATE INDEX IF NOT EXISTS idx_events_status_event_date
+    ON events (status, event_date, id);
+
+-- Category-filtered listings of approved events: findEventsWithFilters[After]
+CREATE INDEX IF NOT EXISTS idx_events_approved_category_event_date
+    ON events (category_id, event_date, id)
+    WHERE status = 'APPROVED';
+
+-- Organizer pages and dashboards: findByCreator, findUpcomingByCreator, aggregateEventStats
+CREATE INDEX IF NOT EXISTS idx_events_creator_event_date
+    ON events (creator_id, event_date);
+
+-- ========== event_registrations ==========
+
+-- Earlier versions could insert the same registration twice under concurrent
+-- requests. Keep one row per (user, event), preferring the approved and
+-- completed ones, before the unique constraint is added.
+DELETE FROM event_registrations r
+USING (SELECT id,
+              ROW_NUMBER() OVER (PARTITION BY user_id, event_id
+                                 ORDER BY (status = 'APPROVED') DESC, completed DESC, id) AS rn
+       FROM event_registrations) d
+WHERE r.id = d.id
+  AND d.rn > 1;
+
+-- A user registers for an event at most once. Also serves every per-user
+-- lookup: findByUserAndEvent, existsByUserAndEvent, findRegisteredEventIds,
+-- findEventIdsByUserId, countByUser
+ALTER TABLE event_registrations
+    ADD CONSTRAINT uq_event_registrations_user_event UNIQUE (user_id, event_id);
+
+-- Per-event counts and filters: findByEventAndStatus, countApprovedRegistrationsByEvent,
+-- reconcileApprovedCounts
+CREATE INDEX IF NOT EXISTS idx_event_registrations_event_status
+    ON event_registrations (event_id, status);
+
+-- Keyset pages, newest first: findByEventAfter, findByUserAfter
+CREATE INDEX IF NOT EXISTS idx_event_registrations_event_registered
+    ON event_registrations (event_id, registered_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_event_registrations_user_registered
+    ON event_registrations (user_id, registered_at DESC, id DESC);
+
+-- Trending window scan: findRecentRegistrationTimes
+CREATE INDEX IF NOT EXISTS idx_event_registrations_registered_at
+    ON event_registrations (registered_at);
+
+-- Duplicates removed above may have been counted
+UPDATE events e
+SET approved_count = c.cnt
+FROM (SELECT ev.id AS event_id, COUNT(r.id) AS cnt
+      FROM events ev
+               LEFT JOIN event_registrations r ON r.event_id = ev.id AND r.status = 'APPROVED'
+      GROUP BY ev.id) c
+WHERE e.id = c.event_id
+  AND e.approved_count <> c.cnt;
+
+-- ========== posts, comments, likes ==========
+
+-- Event feeds, newest first: findByEvent, findByEventOrderByCreatedAtDesc, countRecentPostsByEvent
+CREATE INDEX IF NOT EXISTS idx_posts_event_created
+    ON posts (event_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_posts_author
+    ON posts (author_id);
+
+-- Activity window scans: findRecentActivityTimes
+CREATE INDEX IF NOT EXISTS idx_posts_created_at
+    ON posts (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_comments_post_created
+    ON comments (post_id, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_comments_created_at
+    ON comments (created_at);
+
+-- Like toggles and counts: findByUserAndPost/Comment, countByPost/Comment
+CREATE INDEX IF NOT EXISTS idx_likes_post_user
+    ON likes (post_id, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_likes_comment_user
+    ON likes (comment_id, user_id);
+
+-- ========== refresh_tokens ==========
+
+-- refresh_tokens.token is already indexed by its unique constraint (findByToken)
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user
+    ON refresh_tokens (user_id);
@@ -0,0 +1,9 @@
+-- Keyset pages of the admin user list, newest first by (created_at, id):
+-- findAllFirstPage, findAllAfter. B-tree indexes scan backwards, so
+-- ascending columns serve the DESC order.
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at
+    ON users (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_users_role_created_at
+    ON users (role, created_at, id);
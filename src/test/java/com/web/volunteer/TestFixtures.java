@@ -0,0 +1,73 @@
+package com.web.volunteer;
+
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.EventRegistration;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.repository.EventRegistrationRepository;
+import com.web.volunteer.repository.EventRepository;
+import com.web.volunteer.repository.UserRepository;
+import com.web.volunteer.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Creates users, events and registrations with unique values, so tests
+ * sharing one database do not see each other's rows
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+
+    public User user(Role role) {
+        String name = role.name().toLowerCase() + "-" + UUID.randomUUID();
+        return userRepository.save(User.builder()
+                .fullName(name)
+                .email(name + "@example.com")
+                .password("{noop}password")
+                .phoneNumber("0900000000")
+                .role(role)
+                .active(true)
+                .build());
+    }
+
+    public Event approvedEvent(User creator, Integer maxParticipants) {
+        return eventRepository.save(Event.builder()
+                .title("Event " + UUID.randomUUID())
+                .description("Test event")
+                .location("Hanoi")
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(maxParticipants)
+                .status(Event.EventStatus.APPROVED)
+                .approvedAt(LocalDateTime.now())
+                .creator(creator)
+                .build());
+    }
+
+    public EventRegistration pendingRegistration(User user, Event event) {
+        return registrationRepository.save(EventRegistration.builder()
+                .user(user)
+                .event(event)
+                .status(EventRegistration.RegistrationStatus.PENDING)
+                .registeredAt(LocalDateTime.now())
+                .completed(false)
+                .build());
+    }
+
+    /**
+     * Authenticate the current thread as the given user
+     */
+    public static void authenticateAs(User user) {
+        CustomUserDetails principal = CustomUserDetails.build(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.web.volunteer.config;
+
+import com.web.volunteer.TestFixtures;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing between two in-memory H2 databases standing in for the primary
+ * and the replica, wired as DataSourceConfig wires the real pools
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String PRIMARY = "jdbc:h2:mem:primary";
+    private static final String REPLICA = "jdbc:h2:mem:replica";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndTheRestToThePrimary() {
+        DataSource dataSource = routing(h2(REPLICA));
+
+        assertThat(databaseUsedBy(dataSource, true)).isEqualTo(REPLICA);
+        assertThat(databaseUsedBy(dataSource, false)).isEqualTo(PRIMARY);
+        assertThat(new JdbcTemplate(dataSource).execute(urlOfConnection())).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readsStickToThePrimaryAfterTheUserWrites() {
+        DataSource dataSource = routing(h2(REPLICA));
+        User writer = user(1L);
+        User other = user(2L);
+
+        TestFixtures.authenticateAs(writer);
+        assertThat(databaseUsedBy(dataSource, true)).isEqualTo(REPLICA);
+        databaseUsedBy(dataSource, false);
+        assertThat(databaseUsedBy(dataSource, true)).isEqualTo(PRIMARY);
+
+        TestFixtures.authenticateAs(other);
+        assertThat(databaseUsedBy(dataSource, true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaIsDown() {
+        // IFEXISTS refuses to create the database, so every connection attempt fails
+        DataSource dataSource = routing(h2("jdbc:h2:mem:missing-replica;IFEXISTS=TRUE"));
+
+        assertThat(databaseUsedBy(dataSource, true)).isEqualTo(PRIMARY);
+        assertThat(databaseUsedBy(dataSource, true)).isEqualTo(PRIMARY);
+
+        // The second read skipped the replica instead of failing over again
+        assertThat(meterRegistry.counter("datasource.replica.fallbacks").count()).isEqualTo(1);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private DataSource routing(DataSource replica) {
+        ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(h2(PRIMARY), replica,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), meterRegistry);
+        router.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(router);
+    }
+
+    /**
+     * URL of the database a transaction's statements ran against
+     */
+    private String databaseUsedBy(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(dataSource).execute(urlOfConnection()));
+    }
+
+    private static ConnectionCallback<String> urlOfConnection() {
+        return connection -> connection.getMetaData().getURL();
+    }
+
+    private static DataSource h2(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        return dataSource;
+    }
+
+    private static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .password("secret")
+                .role(Role.VOLUNTEER)
+                .active(true)
+                .build();
+    }
+}
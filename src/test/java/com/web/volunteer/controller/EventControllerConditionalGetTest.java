@@ -0,0 +1,110 @@
+package com.web.volunteer.controller;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.TestFixtures;
+import com.web.volunteer.dto.request.UpdateEventRequest;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.repository.EventRepository;
+import com.web.volunteer.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The event listing and details answer a matching If-None-Match with 304 and
+ * no body, and with a fresh 200 once the events behind them change
+ */
+@AutoConfigureMockMvc
+class EventControllerConditionalGetTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void eventDetailsAreNotModifiedUntilTheEventChanges() throws Exception {
+        Event event = fixtures.approvedEvent(fixtures.user(Role.ORGANIZER), 10);
+        String path = "/api/v1/events/" + event.getId();
+
+        String etag = etagOf(get(path));
+        expectNotModified(get(path), etag);
+
+        TestFixtures.authenticateAs(fixtures.user(Role.ADMIN));
+        UpdateEventRequest request = new UpdateEventRequest();
+        request.setTitle("Renamed");
+        eventService.updateEvent(event.getId(), request);
+        SecurityContextHolder.clearContext();
+
+        assertThat(etagOf(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))).isNotEqualTo(etag);
+    }
+
+    @Test
+    void eventListingIsNotModifiedUntilItsEventsChange() throws Exception {
+        // A window of its own, so other tests' events leave this listing alone
+        LocalDateTime from = LocalDateTime.now().plusYears(10)
+                .plusDays(ThreadLocalRandom.current().nextInt(10_000))
+                .truncatedTo(ChronoUnit.SECONDS);
+        User organizer = fixtures.user(Role.ORGANIZER);
+        eventOn(organizer, from.plusHours(1));
+
+        String etag = etagOf(listing(from));
+        expectNotModified(listing(from), etag);
+
+        eventOn(organizer, from.plusHours(2));
+
+        assertThat(etagOf(listing(from).header(HttpHeaders.IF_NONE_MATCH, etag))).isNotEqualTo(etag);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Expect a full response and return its ETag
+     */
+    private String etagOf(MockHttpServletRequestBuilder request) throws Exception {
+        String etag = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+
+    private void expectNotModified(MockHttpServletRequestBuilder request, String etag) throws Exception {
+        mockMvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    private MockHttpServletRequestBuilder listing(LocalDateTime from) {
+        return get("/api/v1/events")
+                .param("startDate", from.toString())
+                .param("endDate", from.plusDays(1).toString());
+    }
+
+    private void eventOn(User organizer, LocalDateTime eventDate) {
+        Event event = fixtures.approvedEvent(organizer, null);
+        event.setEventDate(eventDate);
+        eventRepository.save(event);
+    }
+}
@@ -0,0 +1,104 @@
+package com.web.volunteer.repository;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway builds the whole schema, Hibernate's validation accepts it (or the
+ * context would not start), and the hot repository queries are served by
+ * the indexes V4 and V5 add for them. Sequential scans are disabled while
+ * explaining, so an empty table still shows which index the planner can use.
+ */
+class SchemaMigrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.jpa.hibernate.ddl-auto}")
+    private String ddlAuto;
+
+    @Test
+    void flywayAppliesEveryMigrationAndHibernateOnlyValidates() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1", "2", "3", "4", "5");
+        assertThat(applied).allMatch(info -> info.getState().isApplied() && !info.getState().isFailed());
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(ddlAuto).isEqualTo("validate");
+    }
+
+    @Test
+    void eventQueriesUseTheirIndexes() {
+        // findUpcomingApprovedEventsAfter, findByStatusAfter
+        assertUsesIndex("idx_events_status_event_date",
+                "SELECT * FROM events WHERE status = 'APPROVED' AND (event_date, id) > (now(), 1) " +
+                        "ORDER BY event_date, id LIMIT 20");
+        // findEventsWithFiltersAfter with a category
+        assertUsesIndex("idx_events_approved_category_event_date",
+                "SELECT * FROM events WHERE status = 'APPROVED' AND category_id = 1 " +
+                        "AND (event_date, id) > (now(), 1) ORDER BY event_date, id LIMIT 20");
+        // findUpcomingByCreator
+        assertUsesIndex("idx_events_creator_event_date",
+                "SELECT * FROM events WHERE creator_id = 1 AND event_date > now() ORDER BY event_date");
+    }
+
+    @Test
+    void registrationQueriesUseTheirIndexes() {
+        // existsByUserAndEvent, findByUserAndEvent
+        assertUsesIndex("uq_event_registrations_user_event",
+                "SELECT id FROM event_registrations WHERE user_id = 1 AND event_id = 1");
+        // countApprovedRegistrationsByEvent
+        assertUsesIndex("idx_event_registrations_event_status",
+                "SELECT COUNT(*) FROM event_registrations WHERE event_id = 1 AND status = 'APPROVED'");
+        // findByEventAfter
+        assertUsesIndex("idx_event_registrations_event_registered",
+                "SELECT * FROM event_registrations WHERE event_id = 1 AND (registered_at, id) < (now(), 100) " +
+                        "ORDER BY registered_at DESC, id DESC LIMIT 20");
+        // findByUserAfter
+        assertUsesIndex("idx_event_registrations_user_registered",
+                "SELECT * FROM event_registrations WHERE user_id = 1 AND (registered_at, id) < (now(), 100) " +
+                        "ORDER BY registered_at DESC, id DESC LIMIT 20");
+        // findRecentRegistrationTimes
+        assertUsesIndex("idx_event_registrations_registered_at",
+                "SELECT event_id, registered_at FROM event_registrations " +
+                        "WHERE registered_at >= now() - interval '1 day'");
+    }
+
+    @Test
+    void postQueriesUseTheirIndexes() {
+        // findByEventOrderByCreatedAtDesc, countRecentPostsByEvent
+        assertUsesIndex("idx_posts_event_created",
+                "SELECT * FROM posts WHERE event_id = 1 ORDER BY created_at DESC LIMIT 20");
+        // findRecentActivityTimes
+        assertUsesIndex("idx_posts_created_at",
+                "SELECT event_id, created_at FROM posts WHERE created_at >= now() - interval '1 day'");
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void assertUsesIndex(String index, String sql) {
+        String plan = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, String.class));
+        });
+
+        assertThat(plan).as(sql).contains(index).doesNotContain("Seq Scan");
+    }
+}
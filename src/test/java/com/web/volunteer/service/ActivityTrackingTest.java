@@ -0,0 +1,51 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.TestFixtures;
+import com.web.volunteer.dto.request.CreateCommentRequest;
+import com.web.volunteer.dto.request.CreatePostRequest;
+import com.web.volunteer.dto.response.CommentResponse;
+import com.web.volunteer.dto.response.PostResponse;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Posts, comments and likes written through their services reach the
+ * recently-active ranking once committed
+ */
+class ActivityTrackingTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private ActivityTracker activityTracker;
+
+    @Test
+    void communityActivityRanksItsEvent() {
+        User organizer = fixtures.user(Role.ORGANIZER);
+        Event quiet = fixtures.approvedEvent(organizer, null);
+        Event busy = fixtures.approvedEvent(organizer, null);
+        TestFixtures.authenticateAs(fixtures.user(Role.VOLUNTEER));
+
+        postService.createPost(quiet.getId(), new CreatePostRequest("Hello"));
+        PostResponse post = postService.createPost(busy.getId(), new CreatePostRequest("See you there"));
+        CommentResponse comment = commentService.createComment(post.getId(), new CreateCommentRequest("Count me in"));
+        likeService.likePost(post.getId());
+        likeService.likeComment(comment.getId());
+
+        assertThat(activityTracker.topEventIds(10_000))
+                .containsSubsequence(busy.getId(), quiet.getId());
+    }
+}
@@ -0,0 +1,84 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.dto.response.UserResponse;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.exception.BadRequestException;
+import com.web.volunteer.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Admin user search returns the newest matches first, page after page,
+ * even when a branch has more matches than it may keep. Only phone-like
+ * terms match by phone, and search pages by cursor, never by page number.
+ */
+class AdminUserSearchTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void cappedBranchesKeepTheNewestMatches() {
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> newestFirst = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            newestFirst.add(0, userNamed(token + " member " + i).getId());
+        }
+        String pattern = "%" + token + "%";
+
+        // A cap of three rows per branch, pages of two
+        List<User> first = userRepository.searchUsersFirstPage(pattern, "none%", null, null, 3, 2);
+        User last = first.get(first.size() - 1);
+        List<User> second = userRepository.searchUsersAfter(
+                pattern, "none%", null, null, last.getCreatedAt(), last.getId(), 3, 2);
+
+        assertThat(first).extracting(User::getId).containsExactlyElementsOf(newestFirst.subList(0, 2));
+        assertThat(second).extracting(User::getId).containsExactlyElementsOf(newestFirst.subList(2, 4));
+    }
+
+    @Test
+    void onlyPhoneLikeTermsMatchByPhone() {
+        String phone = "09" + (System.nanoTime() % 100_000_000L + 100_000_000L);
+        User user = fixtures.user(Role.VOLUNTEER);
+        user.setPhoneNumber(phone);
+        userRepository.save(user);
+
+        String formatted = "(" + phone.substring(0, 4) + ") " + phone.substring(4, 7) + "-" + phone.substring(7);
+        assertThat(searchIds(formatted)).containsExactly(user.getId());
+        // Digits inside a name or an email address are not a phone number
+        assertThat(searchIds("nobody" + phone)).isEmpty();
+    }
+
+    @Test
+    void searchRejectsPageNumbers() {
+        assertThatThrownBy(() -> adminService.getAllUsers(null, "member", PageRequest.of(1, 20)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("after");
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private List<Long> searchIds(String term) {
+        return adminService.searchUsers(null, term, null, 20).getContent().stream()
+                .map(UserResponse::getId)
+                .toList();
+    }
+
+    private User userNamed(String fullName) {
+        User user = fixtures.user(Role.VOLUNTEER);
+        user.setFullName(fullName);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,119 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.EventRegistration;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.repository.EventRegistrationRepository;
+import com.web.volunteer.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The reconciliation job repairs drifted counts without overwriting an
+ * approval that commits while the job is running
+ */
+class ApprovedCountReconciliationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ApprovedCountReconciliationJob job;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void driftedCountIsRepaired() {
+        Event event = fixtures.approvedEvent(fixtures.user(Role.ORGANIZER), null);
+        setApprovedCount(event, 3);
+
+        job.reconcileApprovedCounts();
+
+        assertThat(approvedCount(event)).isZero();
+    }
+
+    @Test
+    void approvalCommittingDuringTheRepairIsCounted() throws Exception {
+        Event event = fixtures.approvedEvent(fixtures.user(Role.ORGANIZER), null);
+        EventRegistration registration = fixtures.pendingRegistration(fixtures.user(Role.VOLUNTEER), event);
+        setApprovedCount(event, 3);
+
+        CountDownLatch seatReserved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // An approval that has taken its seat but not committed yet, as approveRegistration does
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            Future<?> approval = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                registrationRepository.updateStatusIfCurrent(registration.getId(),
+                        EventRegistration.RegistrationStatus.PENDING,
+                        EventRegistration.RegistrationStatus.APPROVED, LocalDateTime.now());
+                eventRepository.reserveSeat(event.getId());
+                seatReserved.countDown();
+                await(commit);
+            }));
+            assertThat(seatReserved.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> repair = executor.submit(job::reconcileApprovedCounts);
+            awaitBlockedOnRowLock();
+            commit.countDown();
+            approval.get(10, TimeUnit.SECONDS);
+            repair.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(approvedCount(event)).isEqualTo(1);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void setApprovedCount(Event event, int count) {
+        jdbcTemplate.update("UPDATE events SET approved_count = ? WHERE id = ?", count, event.getId());
+    }
+
+    private int approvedCount(Event event) {
+        return jdbcTemplate.queryForObject(
+                "SELECT approved_count FROM events WHERE id = ?", Integer.class, event.getId());
+    }
+
+    private void awaitBlockedOnRowLock() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock' AND datname = current_database()",
+                    Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("The repair never waited for the approval");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.web.volunteer.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.web.volunteer.enums.ExportFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkedExportEngineTest {
+
+    private static final int ROWS = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExportSource<Long> source = new ExportSource<>(
+            "numbers",
+            (afterId, offset) -> afterId + offset + 1 <= ROWS ? afterId + offset + 1 : null,
+            (afterId, upToId) -> LongStream.rangeClosed(afterId + 1, Math.min(upToId, ROWS)).boxed().toList(),
+            new String[]{"ID"},
+            id -> new Object[]{id},
+            id -> Map.of("id", id));
+
+    private ThreadPoolTaskExecutor executor;
+    private ChunkedExportEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        // A deliberately tiny pool, so concurrent exports saturate it
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        engine = new ChunkedExportEngine(executor, new NoOpTransactionManager(), objectMapper,
+                new SimpleMeterRegistry(), 10, 0.5);
+        ReflectionTestUtils.setField(engine, "chunkSize", 50);
+        ReflectionTestUtils.setField(engine, "parallelism", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void resumedJsonAppendsToThePartAlreadyDownloaded() throws Exception {
+        String full = export(null);
+
+        // Cut the download after the row with id 437, as a client would when resuming
+        int cut = full.indexOf("\"id\" : 437");
+        String partial = full.substring(0, full.indexOf('}', cut) + 1);
+        String resumed = export(437L);
+
+        assertThat(resumed).doesNotStartWith("[");
+        JsonNode rows = objectMapper.readTree(partial + resumed);
+        assertThat(rows.size()).isEqualTo(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            assertThat(rows.get(i).get("id").asLong()).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void concurrentExportsDoNotOverflowTheSharedExecutor() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> exports = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                exports.add(callers.submit(() -> export(null)));
+            }
+            for (Future<String> export : exports) {
+                assertThat(objectMapper.readTree(export.get()).size()).isEqualTo(ROWS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private String export(Long resumeAfterId) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        engine.export(source, ExportFormat.JSON, resumeAfterId, false, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
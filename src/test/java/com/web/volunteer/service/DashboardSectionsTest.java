@@ -0,0 +1,200 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.TestFixtures;
+import com.web.volunteer.config.ReadWriteRoutingDataSource;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardSectionsTest {
+
+    private static final long TIMEOUT_MILLIS = 200;
+
+    private DashboardSections sections;
+
+    @BeforeEach
+    void setUp() {
+        // A pool of 10 with a 0.3 share: three sections at a time
+        sections = new DashboardSections(new NoOpTransactionManager(), new SimpleMeterRegistry(),
+                TIMEOUT_MILLIS, 100, 10, 0.3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sections.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sectionsShareABoundedNumberOfConnections() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<DashboardSections.Section<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            futures.add(sections.fork("section-" + i, 1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return "done";
+            }, "empty"));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void sectionMissingItsDeadlineFallsBackWithoutBeingInterrupted() throws Exception {
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        DashboardSections.Section<String> result = sections.fork("slow", 1L, () -> {
+            try {
+                // Stands in for a query the database cancels at the transaction timeout
+                Thread.sleep(TIMEOUT_MILLIS * 2);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            finished.countDown();
+            return "late";
+        }, "empty").join();
+
+        assertThat(result.value()).isEqualTo("empty");
+        assertThat(result.fellBack()).isTrue();
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    void sectionStillWaitingForAPermitAtItsDeadlineNeverRuns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<DashboardSections.Section<String>>> holders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            holders.add(sections.fork("holder-" + i, 1L, () -> {
+                await(release);
+                return "held";
+            }, "empty"));
+        }
+        AtomicInteger ran = new AtomicInteger();
+
+        DashboardSections.Section<String> queued = sections.fork("queued", 1L, () -> {
+            ran.incrementAndGet();
+            return "ran";
+        }, "empty").join();
+        release.countDown();
+        holders.forEach(CompletableFuture::join);
+        sleep(TIMEOUT_MILLIS);
+
+        assertThat(queued.fellBack()).isTrue();
+        assertThat(ran.get()).isZero();
+    }
+
+    @Test
+    void failedSectionServesTheLastGoodValueFlaggedAsFallback() {
+        DashboardSections.Section<String> fresh = sections.fork("stats", 1L, () -> "fresh", "empty").join();
+        DashboardSections.Section<String> failed = sections.fork("stats", 1L, () -> {
+            throw new IllegalStateException("database down");
+        }, "empty").join();
+
+        assertThat(fresh.fellBack()).isFalse();
+        assertThat(failed.value()).isEqualTo("fresh");
+        assertThat(failed.fellBack()).isTrue();
+    }
+
+    @Test
+    void sectionsRouteAsTheCallerWouldAfterTheirOwnWrite() {
+        JdbcDataSource primary = new JdbcDataSource();
+        primary.setURL("jdbc:h2:mem:dashboard-primary");
+        JdbcDataSource replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:dashboard-replica");
+        ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(primary, replica,
+                Duration.ofMinutes(1), Duration.ofMinutes(1), new SimpleMeterRegistry());
+        router.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        ConnectionCallback<String> databaseUrl = connection -> connection.getMetaData().getURL();
+
+        sections.shutdown();
+        sections = new DashboardSections(transactionManager, new SimpleMeterRegistry(), 5_000, 100, 10, 0.3);
+
+        TestFixtures.authenticateAs(user(1L));
+        assertThat(sections.fork("stats", 1L, () -> new JdbcTemplate(dataSource).execute(databaseUrl), "")
+                .join().value()).isEqualTo(replica.getURL());
+
+        // The caller writes; its next dashboard must not read a replica that may lag behind
+        new TransactionTemplate(transactionManager).execute(status -> new JdbcTemplate(dataSource).execute(databaseUrl));
+
+        assertThat(sections.fork("stats", 1L, () -> new JdbcTemplate(dataSource).execute(databaseUrl), "")
+                .join().value()).isEqualTo(primary.getURL());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .password("secret")
+                .role(Role.VOLUNTEER)
+                .active(true)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.QueryTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A section that misses its deadline has its statement cancelled by
+ * PostgreSQL instead of its thread interrupted
+ */
+class DashboardSectionsTimeoutTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private DashboardSections dashboardSections;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${app.dashboard.section-timeout}")
+    private long timeoutMillis;
+
+    @Test
+    void slowQueryIsCancelledByTheDatabase() throws Exception {
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        DashboardSections.Section<Object> section = dashboardSections.fork("slow", 1L, () -> {
+            try {
+                return entityManager.createNativeQuery("SELECT pg_sleep(30)").getSingleResult();
+            } catch (RuntimeException e) {
+                interrupted.set(Thread.currentThread().isInterrupted());
+                failure.complete(e);
+                throw e;
+            }
+        }, "empty").join();
+
+        assertThat(section.fellBack()).isTrue();
+        Throwable cancelled = failure.get(timeoutMillis + 5_000, TimeUnit.MILLISECONDS);
+        assertThat(cancelled).isInstanceOf(QueryTimeoutException.class);
+        assertThat(interrupted).isFalse();
+    }
+}
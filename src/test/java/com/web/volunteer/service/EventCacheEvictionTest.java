@@ -0,0 +1,88 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.TestFixtures;
+import com.web.volunteer.dto.request.UpdateEventRequest;
+import com.web.volunteer.dto.response.EventResponse;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.EventRegistration;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.exception.ResourceNotFoundException;
+import com.web.volunteer.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Event details are served from the cache until a write path changes the
+ * event, and fresh right after it commits
+ */
+class EventCacheEvictionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private User admin;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        admin = fixtures.user(Role.ADMIN);
+        event = fixtures.approvedEvent(fixtures.user(Role.ORGANIZER), 10);
+        TestFixtures.authenticateAs(admin);
+    }
+
+    @Test
+    void detailsAreCachedUntilTheEventIsUpdated() {
+        assertThat(detail().getTitle()).isEqualTo(event.getTitle());
+
+        // A change behind the application's back is not seen: the details are cached
+        Event changed = eventRepository.findById(event.getId()).orElseThrow();
+        changed.setTitle("Changed directly");
+        eventRepository.save(changed);
+        assertThat(detail().getTitle()).isEqualTo(event.getTitle());
+
+        UpdateEventRequest request = new UpdateEventRequest();
+        request.setTitle("Changed through the service");
+        eventService.updateEvent(event.getId(), request);
+
+        assertThat(detail().getTitle()).isEqualTo("Changed through the service");
+    }
+
+    @Test
+    void registrationDecisionsRefreshTheParticipantCount() {
+        EventRegistration registration = fixtures.pendingRegistration(fixtures.user(Role.VOLUNTEER), event);
+        assertThat(detail().getCurrentParticipants()).isZero();
+
+        registrationService.approveRegistration(registration.getId());
+
+        assertThat(detail().getCurrentParticipants()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedAndDeletedEventsAreNotServedFromTheCache() {
+        assertThat(detail().getStatus()).isEqualTo("APPROVED");
+
+        eventService.rejectEvent(event.getId());
+        assertThat(detail().getStatus()).isEqualTo("REJECTED");
+
+        eventService.deleteEvent(event.getId());
+        assertThatThrownBy(this::detail).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private EventResponse detail() {
+        return eventService.getEventById(event.getId(), etag -> false);
+    }
+}
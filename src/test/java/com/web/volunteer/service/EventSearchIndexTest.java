@@ -0,0 +1,123 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.entity.Event;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchIndexTest {
+
+    private static final int WRITERS = 8;
+    private static final int EVENTS_PER_WRITER = 200;
+
+    // The index is never rebuilt here, so it needs no repository
+    private final EventSearchIndex index = new EventSearchIndex(null, new NoOpTransactionManager());
+
+    @Test
+    void concurrentWritersAreAllApplied() throws Exception {
+        concurrently(writer -> {
+            for (int i = 0; i < EVENTS_PER_WRITER; i++) {
+                long id = (long) writer * EVENTS_PER_WRITER + i + 1;
+                index.eventIndexed(event(id, "Beach cleanup " + (id % 2 == 0 ? "even" : "odd")));
+            }
+        });
+
+        assertThat(search("beach").total()).isEqualTo(WRITERS * EVENTS_PER_WRITER);
+        assertThat(search("even").total()).isEqualTo(WRITERS * EVENTS_PER_WRITER / 2);
+
+        // Remove the odd events and retitle the even ones, again from all writers at once
+        concurrently(writer -> {
+            for (int i = 0; i < EVENTS_PER_WRITER; i++) {
+                long id = (long) writer * EVENTS_PER_WRITER + i + 1;
+                if (id % 2 == 0) {
+                    index.eventIndexed(event(id, "Tree planting"));
+                } else {
+                    index.eventRemoved(id);
+                }
+            }
+        });
+
+        assertThat(search("beach").total()).isZero();
+        assertThat(search("tree").total()).isEqualTo(WRITERS * EVENTS_PER_WRITER / 2);
+        assertThat(index.suggest("b", 10)).isEmpty();
+        assertThat(index.suggest("tr", 10)).containsExactly("tree");
+    }
+
+    @Test
+    void broadPrefixesMatchEveryTermAndAreFlaggedForTheDatabase() {
+        // 70 "vol..." terms that sort before "volunteers", from every event's description
+        for (long id = 1; id <= 70; id++) {
+            index.eventIndexed(event(id, String.format("vola%03d", id)));
+        }
+
+        assertThat(search("vol").total()).isEqualTo(70);
+        assertThat(search("volunteers").total()).isEqualTo(70);
+        assertThat(index.isSelective("vol")).isFalse();
+        assertThat(index.isSelective("volu")).isTrue();
+        assertThat(index.isSelective("vola001 volu")).isTrue();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private EventSearchIndex.SearchPage search(String text) {
+        return index.search(text, null, null, null, 0, 10);
+    }
+
+    private static Event event(long id, String title) {
+        return Event.builder()
+                .id(id)
+                .title(title)
+                .description("Volunteers wanted")
+                .location("Hanoi")
+                .eventDate(LocalDateTime.now().plusDays(id))
+                .status(Event.EventStatus.APPROVED)
+                .approvedCount(0)
+                .build();
+    }
+
+    private interface Writer {
+        void run(int writer);
+    }
+
+    private static void concurrently(Writer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int id = writer;
+                futures.add(executor.submit(() -> task.run(id)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.dto.response.EventResponse;
+import com.web.volunteer.dto.response.PageResponse;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.exception.BadRequestException;
+import com.web.volunteer.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cursor paging walks every row once, in (eventDate, id) order, even when
+ * many rows share the same event date
+ */
+class EventServiceCursorTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    void cursorPagesVisitTiedRowsExactlyOnce() {
+        // A window of its own, far from other tests' events
+        LocalDateTime date = LocalDateTime.now().plusYears(5)
+                .plusDays(ThreadLocalRandom.current().nextInt(10_000))
+                .truncatedTo(ChronoUnit.SECONDS);
+        User organizer = fixtures.user(Role.ORGANIZER);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Event event = fixtures.approvedEvent(organizer, null);
+            // Five share one date; two come later
+            event.setEventDate(i < 5 ? date : date.plusHours(i));
+            expected.add(eventRepository.save(event).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String after = "";
+        do {
+            PageResponse<EventResponse> page = eventService.getAllEvents(
+                    null, null, date.minusMinutes(1), date.plusDays(1), null, 0, 2, after, etag -> false);
+            assertThat(page.getContent()).hasSizeLessThanOrEqualTo(2);
+            page.getContent().forEach(event -> seen.add(event.getId()));
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void cursorPageSizeIsValidatedAndCapped() {
+        assertThatThrownBy(() -> eventService.getAllEvents(
+                null, null, null, null, null, 0, 0, "", etag -> false))
+                .isInstanceOf(BadRequestException.class);
+
+        PageResponse<EventResponse> page = eventService.getAllEvents(
+                null, null, null, null, null, 0, 10_000, "", etag -> false);
+        assertThat(page.getPageSize()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,145 @@
+package com.web.volunteer.service;
+
+import com.web.volunteer.PostgresIntegrationTest;
+import com.web.volunteer.TestFixtures;
+import com.web.volunteer.entity.Event;
+import com.web.volunteer.entity.EventRegistration;
+import com.web.volunteer.entity.User;
+import com.web.volunteer.enums.Role;
+import com.web.volunteer.exception.BadRequestException;
+import com.web.volunteer.exception.ResourceNotFoundException;
+import com.web.volunteer.repository.EventRegistrationRepository;
+import com.web.volunteer.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races approvals (and withdrawals) against max_participants; the approved
+ * count must never exceed capacity and must always match the APPROVED rows.
+ */
+class RegistrationServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int VOLUNTEERS = 24;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository registrationRepository;
+
+    @Test
+    void concurrentApprovalsNeverOverbook() throws Exception {
+        User organizer = fixtures.user(Role.ORGANIZER);
+        Event event = fixtures.approvedEvent(organizer, 5);
+        List<EventRegistration> registrations = pendingRegistrations(event);
+
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (EventRegistration registration : registrations) {
+            tasks.add(() -> {
+                TestFixtures.authenticateAs(organizer);
+                try {
+                    registrationService.approveRegistration(registration.getId());
+                    approved.incrementAndGet();
+                } catch (BadRequestException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        race(tasks);
+
+        assertThat(approved.get()).isEqualTo(5);
+        assertThat(rejected.get()).isEqualTo(VOLUNTEERS - 5);
+        assertConsistent(event, 5);
+    }
+
+    @Test
+    void approvalsRacingWithdrawalsKeepTheCountExact() throws Exception {
+        User organizer = fixtures.user(Role.ORGANIZER);
+        Event event = fixtures.approvedEvent(organizer, 8);
+        List<EventRegistration> registrations = pendingRegistrations(event);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (EventRegistration registration : registrations) {
+            tasks.add(() -> {
+                TestFixtures.authenticateAs(organizer);
+                try {
+                    registrationService.approveRegistration(registration.getId());
+                } catch (BadRequestException | ResourceNotFoundException e) {
+                    // Full, or withdrawn first
+                }
+                return null;
+            });
+            tasks.add(() -> {
+                TestFixtures.authenticateAs(registration.getUser());
+                try {
+                    registrationService.unregisterFromEvent(event.getId());
+                } catch (BadRequestException e) {
+                    // Approved concurrently; the status moved under us
+                }
+                return null;
+            });
+        }
+        Collections.shuffle(tasks);
+        race(tasks);
+
+        assertConsistent(event, 8);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private List<EventRegistration> pendingRegistrations(Event event) {
+        List<EventRegistration> registrations = new ArrayList<>();
+        for (int i = 0; i < VOLUNTEERS; i++) {
+            registrations.add(fixtures.pendingRegistration(fixtures.user(Role.VOLUNTEER), event));
+        }
+        return registrations;
+    }
+
+    /**
+     * Start all tasks at once and wait for them; unexpected exceptions fail the test
+     */
+    private void race(List<Callable<Void>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertConsistent(Event event, int maxParticipants) {
+        int approvedCount = eventRepository.findById(event.getId()).orElseThrow().getApprovedCount();
+        long approvedRows = registrationRepository.countApprovedRegistrationsByEvent(event);
+
+        assertThat(approvedCount).isLessThanOrEqualTo(maxParticipants);
+        assertThat(approvedCount).isEqualTo(approvedRows);
+    }
+}
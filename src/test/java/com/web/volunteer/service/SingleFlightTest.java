@@ -0,0 +1,121 @@
+package com.web.volunteer.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("value");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void waitingCallersGetTheLoadersException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database down");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> singleFlight.execute("key", () -> {
+            await(release);
+            throw failure;
+        }));
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(result::get).hasCause(failure);
+        }
+        // The key is released, so the next call loads again
+        assertThat(singleFlight.execute("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    void asyncLoadIsSharedUntilItCompletes() {
+        CompletableFuture<String> load = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = singleFlight.executeAsync("key", () -> {
+            loads.incrementAndGet();
+            return load;
+        });
+        CompletableFuture<String> second = singleFlight.executeAsync("key", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        load.complete("value");
+
+        assertThat(first.join()).isEqualTo("value");
+        assertThat(second.join()).isEqualTo("value");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture("next")).join())
+                .isEqualTo("next");
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Start CALLERS calls and return once all but the first are waiting on it
+     */
+    private List<Future<String>> callConcurrently(Callable<String> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        executor.shutdown();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced() + completedCount(results) < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return results;
+    }
+
+    private double coalesced() {
+        return meterRegistry.get("singleflight.coalesced").counter().count();
+    }
+
+    private static long completedCount(List<Future<String>> results) {
+        return results.stream().filter(Future::isDone).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}